@@ -1,16 +1,64 @@
 package com.arsframework.util;
 
 import java.io.*;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.Map;
 import java.util.List;
 import java.util.Date;
 import java.util.Arrays;
+import java.util.Set;
+import java.util.HashSet;
 import java.util.HashMap;
-import java.util.TreeSet;
 import java.util.Iterator;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.WeakHashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import java.lang.annotation.Target;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Constructor;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
 
 import org.xml.sax.XMLReader;
 import org.xml.sax.Attributes;
@@ -20,15 +68,29 @@ import org.xml.sax.helpers.DefaultHandler;
 import org.xml.sax.helpers.XMLReaderFactory;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellAddress;
+import org.apache.poi.ss.util.WorkbookUtil;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.formula.FormulaParseException;
+import org.apache.poi.hssf.record.*;
 import org.apache.poi.hssf.usermodel.HSSFDateUtil;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFUserException;
+import org.apache.poi.hssf.eventusermodel.AbortableHSSFListener;
+import org.apache.poi.hssf.eventusermodel.FormatTrackingHSSFListener;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.model.SharedStrings;
 import org.apache.poi.xssf.model.SharedStringsTable;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
 import org.apache.poi.xssf.eventusermodel.XSSFReader;
 import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
 import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
 
 import com.arsframework.annotation.Min;
@@ -46,9 +108,24 @@ public abstract class Excels {
     public static final int DEFAULT_SHEET_VOLUME = 50000;
 
     /**
-     * 公式转换器
+     * 默认数据行转交队列容量
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    /**
+     * 当前线程绑定的公式计算器
+     */
+    private static final ThreadLocal<Evaluator> evaluator = new ThreadLocal<>();
+
+    /**
+     * 工作薄与未绑定时使用的按需计算公式计算器映射，公式计算器只被弱引用，不会阻止工作薄被回收
+     */
+    private static final Map<Workbook, WeakReference<Evaluator>> evaluators = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * 标题样式描述
      */
-    private static final ThreadLocal<FormulaEvaluator> evaluator = new ThreadLocal<>();
+    private static final Style TITLE_STYLE = new Style().bold(true).alignment(HorizontalAlignment.CENTER);
 
     /**
      * Excel格式枚举
@@ -62,7 +139,12 @@ public abstract class Excels {
         /**
          * xlsx格式
          */
-        XLSX;
+        XLSX,
+
+        /**
+         * csv格式
+         */
+        CSV;
 
         /**
          * 根据类型名称转换类型枚举
@@ -75,6 +157,83 @@ public abstract class Excels {
         }
     }
 
+    /**
+     * Excel2007表格XML解析方式枚举
+     */
+    public enum Parser {
+        /**
+         * SAX推模式解析
+         */
+        SAX,
+
+        /**
+         * StAX拉模式解析，可跳过不需要的元素
+         */
+        STAX;
+    }
+
+    /**
+     * 公式计算方式枚举
+     */
+    public enum Evaluation {
+        /**
+         * 只读取单元格中保存的计算结果，不计算公式
+         */
+        CACHED,
+
+        /**
+         * 读取时计算公式，计算结果按单元格缓存
+         */
+        LAZY,
+
+        /**
+         * 绑定时计算所有公式并写回单元格，读取时只读取保存的计算结果
+         */
+        EAGER;
+    }
+
+    /**
+     * 数据行异步处理顺序枚举
+     */
+    public enum Ordering {
+        /**
+         * 不保证处理顺序，数据行由多个消费线程并发处理
+         */
+        NONE,
+
+        /**
+         * 按解析顺序逐行处理，只使用一个消费线程
+         */
+        SEQUENTIAL,
+
+        /**
+         * 按分区处理，分区值相同的数据行由同一个消费线程按解析顺序处理
+         */
+        PARTITIONED;
+    }
+
+    /**
+     * Excel列标题注解，类中存在标注的字段时对象与数据行之间只转换标注的字段，并按列顺序排列
+     */
+    @Documented
+    @Target(ElementType.FIELD)
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Title {
+        /**
+         * 标题名称
+         *
+         * @return 标题名称
+         */
+        String value();
+
+        /**
+         * 列顺序，顺序相同时按字段声明顺序排列
+         *
+         * @return 列顺序
+         */
+        int order() default 0;
+    }
+
     /**
      * Excel单元格树
      */
@@ -109,14 +268,24 @@ public abstract class Excels {
          */
         public final CellStyle style;
 
+        /**
+         * 单元格样式描述（未指定单元格样式时在写入的工作薄中查找或创建）
+         */
+        public final Style template;
+
         /**
          * 单元格子树数组
          */
         public final Tree[] children;
 
         public Tree(Object value, CellStyle style, @Min(1) int rowspan, @Nonnull Tree... children) {
+            this(value, style, null, rowspan, children);
+        }
+
+        private Tree(Object value, CellStyle style, Style template, @Min(1) int rowspan, @Nonnull Tree... children) {
             this.value = value;
             this.style = style;
+            this.template = template;
             this.rowspan = rowspan;
             this.children = children;
             this.count = Arrays.stream(children).mapToInt(t -> t.count).sum() + 1;
@@ -176,6 +345,435 @@ public abstract class Excels {
         public static Tree of(Object value, CellStyle style, int rowspan, Tree... children) {
             return new Tree(value, style, rowspan, children);
         }
+
+        /**
+         * 构建单元格树
+         *
+         * @param value    单元格值
+         * @param style    单元格样式描述
+         * @param children 单元格子树数组
+         * @return 单元格树对象
+         */
+        public static Tree styled(Object value, Style style, Tree... children) {
+            return styled(value, style, 1, children);
+        }
+
+        /**
+         * 构建单元格树
+         *
+         * @param value    单元格值
+         * @param style    单元格样式描述
+         * @param rowspan  行跨度
+         * @param children 单元格子树数组
+         * @return 单元格树对象
+         */
+        public static Tree styled(Object value, Style style, @Min(1) int rowspan, @Nonnull Tree... children) {
+            return new Tree(value, null, style, rowspan, children);
+        }
+    }
+
+    /**
+     * Excel单元格样式描述，按属性值比较，相同属性的样式在同一个工作薄中只创建一次
+     */
+    public static class Style {
+        private boolean bold; // 是否加粗
+        private boolean italic; // 是否斜体
+        private boolean wrapped; // 是否自动换行
+        private String font; // 字体名称
+        private short size = -1; // 字号（磅）
+        private short color = -1; // 字体颜色下标
+        private short background = -1; // 背景颜色下标
+        private String format; // 数据格式
+        private BorderStyle border; // 边框样式
+        private HorizontalAlignment alignment; // 水平对齐方式
+        private VerticalAlignment verticalAlignment; // 垂直对齐方式
+
+        /**
+         * 设置是否加粗
+         *
+         * @param bold 是否加粗
+         * @return 样式描述
+         */
+        public Style bold(boolean bold) {
+            this.bold = bold;
+            return this;
+        }
+
+        /**
+         * 设置是否斜体
+         *
+         * @param italic 是否斜体
+         * @return 样式描述
+         */
+        public Style italic(boolean italic) {
+            this.italic = italic;
+            return this;
+        }
+
+        /**
+         * 设置是否自动换行
+         *
+         * @param wrapped 是否自动换行
+         * @return 样式描述
+         */
+        public Style wrapped(boolean wrapped) {
+            this.wrapped = wrapped;
+            return this;
+        }
+
+        /**
+         * 设置字体名称
+         *
+         * @param font 字体名称
+         * @return 样式描述
+         */
+        public Style font(String font) {
+            this.font = font;
+            return this;
+        }
+
+        /**
+         * 设置字号
+         *
+         * @param size 字号（磅）
+         * @return 样式描述
+         */
+        public Style size(@Min(1) int size) {
+            this.size = (short) size;
+            return this;
+        }
+
+        /**
+         * 设置字体颜色
+         *
+         * @param color 字体颜色
+         * @return 样式描述
+         */
+        @Nonnull
+        public Style color(IndexedColors color) {
+            this.color = color.getIndex();
+            return this;
+        }
+
+        /**
+         * 设置背景颜色，使用纯色填充
+         *
+         * @param background 背景颜色
+         * @return 样式描述
+         */
+        @Nonnull
+        public Style background(IndexedColors background) {
+            this.background = background.getIndex();
+            return this;
+        }
+
+        /**
+         * 设置数据格式
+         *
+         * @param format 数据格式
+         * @return 样式描述
+         */
+        public Style format(String format) {
+            this.format = format;
+            return this;
+        }
+
+        /**
+         * 设置边框样式，上下左右边框使用相同样式
+         *
+         * @param border 边框样式
+         * @return 样式描述
+         */
+        public Style border(BorderStyle border) {
+            this.border = border;
+            return this;
+        }
+
+        /**
+         * 设置水平对齐方式
+         *
+         * @param alignment 水平对齐方式
+         * @return 样式描述
+         */
+        public Style alignment(HorizontalAlignment alignment) {
+            this.alignment = alignment;
+            return this;
+        }
+
+        /**
+         * 设置垂直对齐方式
+         *
+         * @param alignment 垂直对齐方式
+         * @return 样式描述
+         */
+        public Style alignment(VerticalAlignment alignment) {
+            this.verticalAlignment = alignment;
+            return this;
+        }
+
+        /**
+         * 获取字体属性键
+         *
+         * @return 字体属性键
+         */
+        private List<Object> getFontKey() {
+            return Arrays.asList(this.bold, this.italic, this.font, this.size, this.color);
+        }
+
+        /**
+         * 复制样式描述
+         *
+         * @return 样式描述
+         */
+        private Style copy() {
+            Style style = new Style();
+            style.bold = this.bold;
+            style.italic = this.italic;
+            style.wrapped = this.wrapped;
+            style.font = this.font;
+            style.size = this.size;
+            style.color = this.color;
+            style.background = this.background;
+            style.format = this.format;
+            style.border = this.border;
+            style.alignment = this.alignment;
+            style.verticalAlignment = this.verticalAlignment;
+            return style;
+        }
+
+        /**
+         * 在工作薄中创建样式对象
+         *
+         * @param workbook Excel工作薄
+         * @param font     字体对象
+         * @return 样式对象
+         */
+        private CellStyle build(Workbook workbook, Font font) {
+            CellStyle style = workbook.createCellStyle();
+            style.setFont(font);
+            style.setWrapText(this.wrapped);
+            if (this.format != null) {
+                style.setDataFormat(workbook.createDataFormat().getFormat(this.format));
+            }
+            if (this.background >= 0) {
+                style.setFillForegroundColor(this.background);
+                style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+            }
+            if (this.border != null) {
+                style.setBorderTop(this.border);
+                style.setBorderLeft(this.border);
+                style.setBorderRight(this.border);
+                style.setBorderBottom(this.border);
+            }
+            if (this.alignment != null) {
+                style.setAlignment(this.alignment);
+            }
+            if (this.verticalAlignment != null) {
+                style.setVerticalAlignment(this.verticalAlignment);
+            }
+            return style;
+        }
+
+        /**
+         * 在工作薄中创建字体对象
+         *
+         * @param workbook Excel工作薄
+         * @return 字体对象
+         */
+        private Font buildFont(Workbook workbook) {
+            Font font = workbook.createFont();
+            font.setBold(this.bold);
+            font.setItalic(this.italic);
+            if (this.font != null) {
+                font.setFontName(this.font);
+            }
+            if (this.size > 0) {
+                font.setFontHeightInPoints(this.size);
+            }
+            if (this.color >= 0) {
+                font.setColor(this.color);
+            }
+            return font;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Style)) {
+                return false;
+            }
+            Style style = (Style) other;
+            return this.bold == style.bold && this.italic == style.italic && this.wrapped == style.wrapped && this.size == style.size
+                    && this.color == style.color && this.background == style.background && this.border == style.border
+                    && this.alignment == style.alignment && this.verticalAlignment == style.verticalAlignment
+                    && java.util.Objects.equals(this.font, style.font) && java.util.Objects.equals(this.format, style.format);
+        }
+
+        @Override
+        public int hashCode() {
+            return java.util.Objects.hash(this.bold, this.italic, this.wrapped, this.font, this.size, this.color, this.background,
+                    this.format, this.border, this.alignment, this.verticalAlignment);
+        }
+    }
+
+    /**
+     * 工作薄样式注册表，只记录样式及字体下标，不持有工作薄对象的引用
+     */
+    private static class StyleRegistry {
+        /**
+         * 工作薄与样式注册表映射（工作薄被回收后注册表自动移除）
+         */
+        private static final Map<Workbook, StyleRegistry> registries = Collections.synchronizedMap(new WeakHashMap<>());
+
+        private final Map<Style, Integer> styles = new HashMap<>(); // 样式描述与样式下标映射
+        private final Map<List<Object>, Integer> fonts = new HashMap<>(); // 字体属性与字体下标映射
+
+        /**
+         * 获取工作薄对应的样式对象，相同属性的样式只创建一次
+         *
+         * @param workbook Excel工作薄
+         * @param style    样式描述
+         * @return 样式对象
+         */
+        public static CellStyle lookup(Workbook workbook, Style style) {
+            StyleRegistry registry = registries.computeIfAbsent(workbook, k -> new StyleRegistry());
+            synchronized (registry) {
+                Integer index = registry.styles.get(style);
+                if (index == null) {
+                    List<Object> key = style.getFontKey();
+                    Integer font = registry.fonts.get(key);
+                    if (font == null) {
+                        registry.fonts.put(key, font = style.buildFont(workbook).getIndexAsInt());
+                    }
+                    registry.styles.put(style.copy(), index = (int) style.build(workbook, workbook.getFontAt(font)).getIndex());
+                }
+                return workbook.getCellStyleAt(index);
+            }
+        }
+    }
+
+    /**
+     * 公式计算器，绑定到当前线程后供单元格取值使用，关闭后恢复之前绑定的公式计算器
+     */
+    public static class Evaluator implements Closeable {
+        private boolean bound; // 是否已绑定到当前线程
+        private Evaluator previous; // 之前绑定的公式计算器
+        private final Map<Cell, Object> cache; // 单元格计算结果缓存
+        private final FormulaEvaluator delegate; // POI公式计算器
+        protected final Workbook workbook; // Excel工作薄
+        protected final Evaluation mode; // 公式计算方式
+
+        @Nonnull
+        public Evaluator(Workbook workbook, Evaluation mode) {
+            this.workbook = workbook;
+            this.mode = mode;
+            this.cache = mode == Evaluation.LAZY ? new IdentityHashMap<>() : null;
+            this.delegate = mode == Evaluation.CACHED ? null : workbook.getCreationHelper().createFormulaEvaluator();
+            if (mode == Evaluation.EAGER) {
+                this.delegate.evaluateAll();
+            }
+        }
+
+        /**
+         * 绑定到当前线程
+         *
+         * @return 公式计算器
+         */
+        public Evaluator bind() {
+            if (!this.bound) {
+                this.previous = evaluator.get();
+                this.bound = true;
+                evaluator.set(this);
+            }
+            return this;
+        }
+
+        /**
+         * 获取公式单元格值，数字单元格为日期格式时转换成日期
+         *
+         * @param cell 公式单元格
+         * @return 值
+         */
+        @Nonnull
+        public Object evaluate(Cell cell) {
+            if (this.mode != Evaluation.LAZY || cell.getCachedFormulaResultType() == CellType.ERROR) {
+                return this.getCachedValue(cell);
+            }
+            synchronized (this.cache) { // 未绑定时使用的公式计算器可能被多个线程共享
+                return this.compute(cell);
+            }
+        }
+
+        /**
+         * 计算公式单元格值并缓存计算结果
+         *
+         * @param cell 公式单元格
+         * @return 值
+         */
+        private Object compute(Cell cell) {
+            Object value = this.cache.get(cell);
+            if (value == null && !this.cache.containsKey(cell)) {
+                CellValue result = this.delegate.evaluate(cell);
+                if (result.getCellType() == CellType.NUMERIC) {
+                    value = HSSFDateUtil.isCellDateFormatted(cell) ? HSSFDateUtil.getJavaDate(result.getNumberValue()) : result.getNumberValue();
+                } else if (result.getCellType() == CellType.BOOLEAN) {
+                    value = result.getBooleanValue();
+                } else if (result.getCellType() == CellType.ERROR) {
+                    value = FormulaError.forInt(result.getErrorValue()).getString();
+                } else {
+                    value = Strings.trim(result.getStringValue());
+                }
+                this.cache.put(cell, value);
+            }
+            return value;
+        }
+
+        /**
+         * 获取公式单元格中保存的计算结果
+         *
+         * @param cell 公式单元格
+         * @return 值
+         */
+        private Object getCachedValue(Cell cell) {
+            CellType type = cell.getCachedFormulaResultType();
+            if (type == CellType.NUMERIC) {
+                return HSSFDateUtil.isCellDateFormatted(cell) ? cell.getDateCellValue() : cell.getNumericCellValue();
+            } else if (type == CellType.BOOLEAN) {
+                return cell.getBooleanCellValue();
+            } else if (type == CellType.ERROR) {
+                return FormulaError.forInt(cell.getErrorCellValue()).getString();
+            }
+            return Strings.trim(cell.getStringCellValue());
+        }
+
+        /**
+         * 清除计算结果缓存，单元格值或公式修改后需要调用
+         */
+        public void clear() {
+            if (this.cache != null) {
+                synchronized (this.cache) {
+                    this.cache.clear();
+                    this.delegate.clearAllCachedResultValues();
+                }
+            } else if (this.delegate != null) {
+                this.delegate.clearAllCachedResultValues();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (this.bound && evaluator.get() == this) {
+                if (this.previous == null) {
+                    evaluator.remove();
+                } else {
+                    evaluator.set(this.previous);
+                }
+            }
+            this.bound = false;
+            this.previous = null;
+        }
     }
 
     /**
@@ -312,7 +910,10 @@ public abstract class Excels {
      */
     public interface Reader {
         /**
-         * 读取Excel数据行并转换成对象实例
+         * 读取Excel数据行并转换成对象实例，Excel2007默认每行构建新的行对象；
+         * Excel2003/CSV流式读取及Excel2007开启行对象复用（AbstractExcel2007Reader.recycle）时数据行对象在回调结束后会被复用，需要保留时调用XMLRow.copy()拷贝；
+         * Excel2007未指定类型及显式指定数字类型（t="n"，SXSSF写入的数字均为此类型）的单元格均按数字类型读取，日期格式样式的数字单元格按日期读取，
+         * 其他类型（str、e、d等）的单元格按字符串读取
          *
          * @param row   数据行对象
          * @param count 当前记录数（从1开始）
@@ -321,659 +922,4971 @@ public abstract class Excels {
     }
 
     /**
-     * Excel写接口
-     *
-     * @param <T> 数据模型
+     * Excel批量读接口
      */
-    public interface Writer<T> {
+    public interface BatchReader {
         /**
-         * 将对象实例写入到Excel数据行
+         * 读取一批Excel数据行，流式读取的数据行为独立副本，列表及数据行在回调结束后可直接保留
          *
-         * @param row    数据行对象
-         * @param object 对象实例
-         * @param count  当前记录数（从1开始）
+         * @param rows  数据行列表
+         * @param count 当前记录数（批次最后一行的记录数，从1开始）
          */
-        void write(Row row, T object, int count);
+        void read(List<Row> rows, int count);
     }
 
     /**
-     * Excel读写器实现
+     * 数据行分批处理器，将逐行回调的数据行按固定数量分批转交给批量读接口，读取结束后需调用flush()转交剩余数据行
      */
-    public static class ReadWriter implements Reader {
-        private int row; // 当前行下标
-        private Sheet sheet; // 当前Excel表格
-        protected final int index; // 写入数据开始行下标
-        protected final Workbook workbook; // 写入数据Excel工作薄
-        protected final Writer<Row> writer; // 数据行写入接口
-
-        @Nonnull
-        public ReadWriter(Workbook workbook) {
-            this(workbook, 0);
-        }
-
-        @Nonnull
-        public ReadWriter(Workbook workbook, int index) {
-            this(workbook, index, (target, source, count) -> copy(source, target));
-        }
-
-        @Nonnull
-        public ReadWriter(Workbook workbook, Writer<Row> writer) {
-            this(workbook, 0, writer);
-        }
+    public static class RowBatcher implements Reader {
+        private int count; // 当前记录数
+        private List<Row> rows; // 当前批次数据行列表
+        protected final int size; // 批次大小
+        protected final BatchReader reader; // Excel批量读接口
 
         @Nonnull
-        public ReadWriter(Workbook workbook, @Min(0) int index, Writer<Row> writer) {
-            this.index = index;
-            this.writer = writer;
-            this.workbook = workbook;
+        public RowBatcher(@Min(1) int size, BatchReader reader) {
+            this.size = size;
+            this.reader = reader;
+            this.rows = new ArrayList<>(size);
         }
 
         @Override
         public void read(Row row, int count) {
-            if (this.sheet == null || (this.row > this.index && this.row % DEFAULT_SHEET_VOLUME == 0)) {
-                this.row = index;
-                this.sheet = this.workbook.createSheet();
+            this.rows.add(copy(row));
+            this.count = count;
+            if (this.rows.size() >= this.size) {
+                this.flush();
+            }
+        }
+
+        /**
+         * 转交当前批次中的数据行
+         */
+        public void flush() {
+            if (!this.rows.isEmpty()) {
+                List<Row> rows = this.rows;
+                this.rows = new ArrayList<>(this.size);
+                this.reader.read(rows, this.count);
             }
-            this.writer.write(this.sheet.createRow(this.row++), row, count);
         }
     }
 
     /**
-     * 基于XML的Excel行实现
+     * 数据行异步处理管道，解析线程将数据行副本写入有界环形缓冲队列，多个消费线程并发处理数据行，处理异常转交给解析线程，关闭时等待所有数据行处理完成
      */
-    public static class XMLRow implements Row {
-        /**
-         * 行下标（从0开始）
-         */
-        private int index;
+    public static class Pipeline implements Reader, Closeable {
+        private int count; // 转交数量
+        private boolean started; // 消费线程是否已启动
+        private boolean reported; // 处理异常是否已转交给解析线程
+        private volatile boolean finished; // 数据行是否已转交完成
+        private volatile Throwable failure; // 数据行处理异常
+        private CountDownLatch latch; // 消费线程结束计数器
+        private List<BlockingQueue<Object[]>> queues; // 数据行缓冲队列
+        private Ordering ordering = Ordering.NONE; // 处理顺序
+        private ToIntFunction<Row> partitioner = row -> java.util.Objects.hashCode(getValue(row.getCell(0))); // 分区函数
+        private int capacity = DEFAULT_QUEUE_CAPACITY; // 缓冲队列容量
+        protected final int consumers; // 消费线程数
+        protected final Executor executor; // 消费任务执行器
+        protected final Reader reader; // Excel读接口
 
         /**
-         * 样式
+         * 构建数据行异步处理管道，按分区处理时每个分区只有一个消费任务，执行器必须能够同时运行所有消费任务（至少consumers个空闲线程），
+         * 否则未被调度的分区队列写满后解析线程将一直阻塞
+         *
+         * @param executor  消费任务执行器（任务必须异步执行）
+         * @param consumers 消费线程数
+         * @param reader    Excel读接口
          */
-        private CellStyle style;
+        @Nonnull
+        public Pipeline(Executor executor, @Min(1) int consumers, Reader reader) {
+            this.executor = executor;
+            this.consumers = consumers;
+            this.reader = reader;
+        }
 
         /**
-         * 单元格列下标列表（从小到大排序）
+         * 设置处理顺序，不保证顺序时读接口将被多个消费线程并发调用
+         *
+         * @param ordering 处理顺序
+         * @return 数据行异步处理管道
          */
-        private TreeSet<Integer> columns = new TreeSet<>();
+        @Nonnull
+        public Pipeline ordering(Ordering ordering) {
+            this.ordering = ordering;
+            return this;
+        }
 
         /**
-         * 单元格列下标/单元格映射表
+         * 设置分区函数，按分区处理时分区值相同的数据行由同一个消费线程按顺序处理，默认按第一列的值分区
+         *
+         * @param partitioner 分区函数
+         * @return 数据行异步处理管道
          */
-        private Map<Integer, Cell> cells = new HashMap<>();
-
-        @Override
-        public Cell createCell(int i) {
-            Cell cell = this.createCell(i, CellType.BLANK);
-            cell.setCellValue(Strings.EMPTY_STRING);
-            return cell;
+        @Nonnull
+        public Pipeline partitioner(ToIntFunction<Row> partitioner) {
+            this.partitioner = partitioner;
+            return this;
         }
 
-        @Override
-        public Cell createCell(@Min(0) int i, CellType cellType) {
-            Cell cell = new XMLCell(this, i);
-            cell.setCellType(cellType);
-            this.cells.put(i, cell);
-            this.columns.add(i);
-            return cell;
+        /**
+         * 设置缓冲队列容量
+         *
+         * @param capacity 缓冲队列容量（每个分区）
+         * @return 数据行异步处理管道
+         */
+        public Pipeline capacity(@Min(1) int capacity) {
+            this.capacity = capacity;
+            return this;
         }
 
-        @Override
-        public void removeCell(Cell cell) {
-            if (cell != null) {
-                this.cells.remove(cell.getColumnIndex());
+        /**
+         * 启动消费线程，按处理顺序构建缓冲队列
+         */
+        private void start() {
+            int consumers = this.ordering == Ordering.SEQUENTIAL ? 1 : this.consumers;
+            int partitions = this.ordering == Ordering.PARTITIONED ? consumers : 1;
+            this.queues = new ArrayList<>(partitions);
+            for (int i = 0; i < partitions; i++) {
+                this.queues.add(new ArrayBlockingQueue<>(this.capacity));
+            }
+            this.latch = new CountDownLatch(consumers);
+            this.started = true;
+            int submitted = 0;
+            try {
+                for (; submitted < consumers; submitted++) {
+                    BlockingQueue<Object[]> queue = this.queues.get(partitions == 1 ? 0 : submitted);
+                    this.executor.execute(() -> this.consume(queue));
+                }
+            } catch (RuntimeException | Error e) {
+                // 未提交的消费任务不会结束计数，需在此处扣除，避免关闭时无限等待
+                this.finished = true;
+                for (int i = submitted; i < consumers; i++) {
+                    this.latch.countDown();
+                }
+                throw e;
             }
         }
 
-        @Override
-        public void setRowNum(@Min(0) int i) {
-            this.index = i;
-        }
-
-        @Override
-        public int getRowNum() {
-            return this.index;
+        /**
+         * 从缓冲队列中获取数据行并处理，出现异常后继续清空队列但不再处理
+         *
+         * @param queue 缓冲队列
+         */
+        private void consume(BlockingQueue<Object[]> queue) {
+            try {
+                while (true) {
+                    Object[] item = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (item == null) {
+                        if (this.finished && queue.isEmpty()) {
+                            break;
+                        }
+                    } else if (this.failure == null) {
+                        try {
+                            this.reader.read((Row) item[0], (Integer) item[1]);
+                        } catch (Throwable e) {
+                            this.fail(e);
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                this.fail(e);
+                Thread.currentThread().interrupt();
+            } finally {
+                this.latch.countDown();
+            }
         }
 
-        @Override
-        public Cell getCell(int i) {
-            return this.getCell(i, MissingCellPolicy.RETURN_NULL_AND_BLANK);
+        /**
+         * 记录第一个处理异常
+         *
+         * @param e 异常对象
+         */
+        private synchronized void fail(Throwable e) {
+            if (this.failure == null) {
+                this.failure = e;
+            }
         }
 
-        @Override
-        public Cell getCell(int i, MissingCellPolicy missingCellPolicy) {
-            return this.cells.get(i);
+        /**
+         * 将处理异常转交给调用方
+         */
+        private void report() {
+            Throwable e = this.failure;
+            if (e != null && !this.reported) {
+                this.reported = true;
+                if (e instanceof RuntimeException) {
+                    throw (RuntimeException) e;
+                } else if (e instanceof Error) {
+                    throw (Error) e;
+                }
+                throw new RuntimeException(e);
+            }
         }
 
         @Override
-        public short getFirstCellNum() {
-            return this.columns.isEmpty() ? -1 : this.columns.first().shortValue();
+        public void read(Row row, int count) {
+            if (!this.started) {
+                this.start();
+            }
+            this.report();
+            Row copy = copy(row);
+            BlockingQueue<Object[]> queue = this.queues.size() == 1 ? this.queues.get(0)
+                    : this.queues.get(Math.floorMod(this.partitioner.applyAsInt(copy), this.queues.size()));
+            Object[] item = {copy, count};
+            try {
+                while (!queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+                    this.report();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            this.count++;
         }
 
-        @Override
-        public short getLastCellNum() {
-            return this.columns.isEmpty() ? -1 : (short) (this.columns.last().shortValue() + 1);
+        /**
+         * 获取已转交的数据行数量
+         *
+         * @return 数据行数量
+         */
+        public int getCount() {
+            return this.count;
         }
 
+        /**
+         * 结束转交并等待所有消费线程处理完成，处理异常未转交时抛出
+         */
         @Override
-        public int getPhysicalNumberOfCells() {
-            return this.columns.size();
+        public void close() {
+            this.finished = true;
+            if (this.started) {
+                try {
+                    this.latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            }
+            this.report();
         }
+    }
 
-        @Override
-        public void setHeight(short i) {
-            throw new UnsupportedOperationException();
-        }
+    /**
+     * Excel数据列流式统计器，读取过程中按列累计求和、最大值、最小值、数量及平均值（对应Formula中的函数名称），
+     * 支持按关键列分组，统计状态使用基本类型数组保存，不保留数据行；与Excel一致，默认只统计数字单元格，文本单元格将被忽略
+     */
+    public static class Aggregator implements Reader {
+        private int key = -1; // 分组列下标
+        private boolean textual; // 是否将十进制数字格式的文本按数字统计
+        private final Accumulator total; // 汇总统计
+        private final Map<Object, Accumulator> groups = new LinkedHashMap<>(); // 分组统计
+        protected final int[] columns; // 统计列下标数组
 
-        @Override
-        public void shiftCellsRight(int i, int i1, int i2) {
-            throw new UnsupportedOperationException();
+        @Nonnull
+        public Aggregator(int... columns) {
+            if (columns.length == 0) {
+                throw new IllegalArgumentException("Aggregation columns must not be empty");
+            }
+            this.columns = columns;
+            this.total = new Accumulator(columns.length);
         }
 
-        @Override
-        public void shiftCellsLeft(int i, int i1, int i2) {
-            throw new UnsupportedOperationException();
+        /**
+         * 设置分组列
+         *
+         * @param column 分组列下标（从0开始）
+         * @return Excel数据列流式统计器
+         */
+        public Aggregator groupBy(@Min(0) int column) {
+            this.key = column;
+            return this;
         }
 
-        @Override
-        public void setZeroHeight(boolean b) {
-            throw new UnsupportedOperationException();
+        /**
+         * 设置是否将十进制数字格式的文本按数字统计，CSV等所有值均为文本的数据源需要开启
+         *
+         * @param textual 是否统计数字文本
+         * @return Excel数据列流式统计器
+         */
+        public Aggregator textual(boolean textual) {
+            this.textual = textual;
+            return this;
         }
 
-        @Override
-        public boolean getZeroHeight() {
-            throw new UnsupportedOperationException();
+        /**
+         * 获取需要读取的列下标（统计列及分组列）
+         *
+         * @return 列下标数组
+         */
+        public int[] getColumns() {
+            if (this.key < 0) {
+                return this.columns.clone();
+            }
+            int[] columns = Arrays.copyOf(this.columns, this.columns.length + 1);
+            columns[this.columns.length] = this.key;
+            return columns;
         }
 
         @Override
-        public void setHeightInPoints(float v) {
-            throw new UnsupportedOperationException();
+        public void read(Row row, int count) {
+            Accumulator group = null;
+            if (this.key >= 0) {
+                Object key = Excels.getValue(row.getCell(this.key));
+                group = this.groups.get(key);
+                if (group == null) {
+                    this.groups.put(key, group = new Accumulator(this.columns.length));
+                }
+            }
+            for (int i = 0; i < this.columns.length; i++) {
+                double number = this.toNumber(row.getCell(this.columns[i]));
+                if (!Double.isNaN(number)) {
+                    this.total.add(i, number);
+                    if (group != null) {
+                        group.add(i, number);
+                    }
+                }
+            }
         }
 
-        @Override
-        public short getHeight() {
-            throw new UnsupportedOperationException();
+        /**
+         * 获取分组值集合（按首次出现的顺序）
+         *
+         * @return 分组值集合
+         */
+        public Set<Object> getGroups() {
+            return Collections.unmodifiableSet(this.groups.keySet());
         }
 
-        @Override
-        public float getHeightInPoints() {
-            throw new UnsupportedOperationException();
+        /**
+         * 获取汇总统计值
+         *
+         * @param function 函数名称（Formula.SUM、MAX、MIN、COUNT、AVERAGE）
+         * @param column   统计列下标
+         * @return 统计值
+         */
+        @Nonnull
+        public double getValue(String function, int column) {
+            return this.total.get(function, this.indexOf(column));
         }
 
-        @Override
-        public boolean isFormatted() {
-            throw new UnsupportedOperationException();
+        /**
+         * 获取分组统计值，分组不存在时返回空分组的统计值
+         *
+         * @param group    分组值
+         * @param function 函数名称（Formula.SUM、MAX、MIN、COUNT、AVERAGE）
+         * @param column   统计列下标
+         * @return 统计值
+         */
+        public double getValue(Object group, @Nonnull String function, int column) {
+            Accumulator accumulator = this.groups.get(group);
+            return (accumulator == null ? new Accumulator(this.columns.length) : accumulator).get(function, this.indexOf(column));
         }
 
-        @Override
-        public CellStyle getRowStyle() {
-            return this.style;
+        /**
+         * 获取统计列在统计列数组中的位置
+         *
+         * @param column 统计列下标
+         * @return 位置
+         */
+        private int indexOf(int column) {
+            for (int i = 0; i < this.columns.length; i++) {
+                if (this.columns[i] == column) {
+                    return i;
+                }
+            }
+            throw new IllegalArgumentException("Column is not aggregated: " + column);
         }
 
-        @Override
-        public void setRowStyle(CellStyle cellStyle) {
-            this.style = cellStyle;
+        /**
+         * 获取单元格数字值，日期按Excel日期数字计算，开启数字文本统计时十进制数字格式的字符串将被转换，其他值返回NaN
+         *
+         * @param cell 单元格对象
+         * @return 数字值
+         */
+        private double toNumber(Cell cell) {
+            if (cell == null) {
+                return Double.NaN;
+            } else if (cell instanceof XMLCell) {
+                XMLCell xmlCell = (XMLCell) cell;
+                return xmlCell.numeric ? xmlCell.number : this.textual && xmlCell.value instanceof String
+                        ? toNumber((String) xmlCell.value) : Double.NaN;
+            }
+            CellType type = cell.getCellType() == CellType.FORMULA ? cell.getCachedFormulaResultType() : cell.getCellType();
+            return type == CellType.NUMERIC ? cell.getNumericCellValue()
+                    : this.textual && type == CellType.STRING ? toNumber(cell.getStringCellValue()) : Double.NaN;
         }
 
-        @Override
-        public Iterator<Cell> cellIterator() {
-            return new Iterator<Cell>() {
-                private Iterator<Integer> columnIterator = columns.iterator();
-
-                @Override
-                public boolean hasNext() {
-                    return columnIterator.hasNext();
+        /**
+         * 将十进制数字格式（可带符号、小数及指数部分）的字符串转换成数字，不接受十六进制、类型后缀及Infinity/NaN等Java数字字面量
+         *
+         * @param text 字符串
+         * @return 数字值，非十进制数字格式时返回NaN
+         */
+        private static double toNumber(String text) {
+            if (text == null || (text = text.trim()).isEmpty()) {
+                return Double.NaN;
+            }
+            int i = 0, length = text.length(), digits = 0;
+            char c = text.charAt(0);
+            if (c == '+' || c == '-') {
+                i++;
+            }
+            for (; i < length && (c = text.charAt(i)) >= '0' && c <= '9'; i++, digits++) ;
+            if (i < length && text.charAt(i) == '.') {
+                for (i++; i < length && (c = text.charAt(i)) >= '0' && c <= '9'; i++, digits++) ;
+            }
+            if (digits == 0) {
+                return Double.NaN;
+            }
+            if (i < length && ((c = text.charAt(i)) == 'e' || c == 'E')) {
+                if (++i < length && ((c = text.charAt(i)) == '+' || c == '-')) {
+                    i++;
                 }
-
-                @Override
-                public Cell next() {
-                    return cells.get(columnIterator.next());
+                int exponent = i;
+                for (; i < length && (c = text.charAt(i)) >= '0' && c <= '9'; i++) ;
+                if (i == exponent) {
+                    return Double.NaN;
                 }
-            };
+            }
+            return i == length ? Double.parseDouble(text) : Double.NaN;
         }
+    }
 
-        @Override
-        public Sheet getSheet() {
-            throw new UnsupportedOperationException();
-        }
+    /**
+     * 数据列统计累加器
+     */
+    private static class Accumulator {
+        private final long[] counts; // 数量
+        private final double[] sums; // 合计
+        private final double[] mins; // 最小值
+        private final double[] maxs; // 最大值
 
-        @Override
-        public int getOutlineLevel() {
-            throw new UnsupportedOperationException();
+        public Accumulator(int size) {
+            this.counts = new long[size];
+            this.sums = new double[size];
+            this.mins = new double[size];
+            this.maxs = new double[size];
+            Arrays.fill(this.mins, Double.POSITIVE_INFINITY);
+            Arrays.fill(this.maxs, Double.NEGATIVE_INFINITY);
         }
 
-        @Override
-        public Iterator<Cell> iterator() {
-            return this.cellIterator();
+        /**
+         * 累加数字值
+         *
+         * @param index  统计列位置
+         * @param number 数字值
+         */
+        public void add(int index, double number) {
+            this.counts[index]++;
+            this.sums[index] += number;
+            if (number < this.mins[index]) {
+                this.mins[index] = number;
+            }
+            if (number > this.maxs[index]) {
+                this.maxs[index] = number;
+            }
         }
 
-        @Override
-        public String toString() {
-            Integer last = -1;
-            List<Cell> cells = new LinkedList<>();
-            for (Integer column : this.columns) {
-                int differ = column - last;
-                if (differ > 1) {
-                    for (int i = 0, len = differ - 1; i < len; i++) {
-                        cells.add(null);
-                    }
-                }
-                cells.add(this.cells.get(column));
-                last = column;
+        /**
+         * 获取统计值，与Excel一致，没有数字值时最大值及最小值为0，平均值为NaN
+         *
+         * @param function 函数名称
+         * @param index    统计列位置
+         * @return 统计值
+         */
+        public double get(String function, int index) {
+            long count = this.counts[index];
+            if (Formula.SUM.equals(function)) {
+                return this.sums[index];
+            } else if (Formula.COUNT.equals(function)) {
+                return count;
+            } else if (Formula.MAX.equals(function)) {
+                return count == 0 ? 0 : this.maxs[index];
+            } else if (Formula.MIN.equals(function)) {
+                return count == 0 ? 0 : this.mins[index];
+            } else if (Formula.AVERAGE.equals(function)) {
+                return count == 0 ? Double.NaN : this.sums[index] / count;
             }
-            return cells.toString();
+            throw new IllegalArgumentException("Not support aggregate function: " + function);
         }
     }
 
     /**
-     * 基于XML的Excel单元格实现
+     * Excel文件批量并发读取器，文件在执行器中并发解析，同时解析的文件数量受并行数限制，
+     * 共享字符串表的预估内存占用受全局内存预算限制，按文件汇总读取数量及异常
      */
-    public static class XMLCell implements Cell {
-        private Row row;
-        private int column;
-        private Object value;
-        private CellType type;
-        private CellStyle style;
-        private CellAddress address;
-
-        public XMLCell(@Nonnull Row row, @Min(0) int column) {
-            this.row = row;
-            this.column = column;
-            this.address = new CellAddress(row.getRowNum(), column);
-        }
+    public static class Ingestion {
+        private final Semaphore slots; // 并行解析许可
+        private final Semaphore memory; // 内存预算许可（KB）
+        private final Map<File, Integer> counts = new ConcurrentHashMap<>(); // 文件读取数量
+        private final Map<File, Throwable> errors = new ConcurrentHashMap<>(); // 文件读取异常
+        protected final int index; // 开始数据行下标
+        protected final int parallelism; // 并行数
+        protected final int budget; // 内存预算（KB）
+        protected final Executor executor; // 解析任务执行器
+        protected final Function<File, Reader> readers; // 文件读接口构建函数
 
-        @Override
-        public int getColumnIndex() {
-            return this.column;
+        /**
+         * 构建Excel文件批量并发读取器
+         *
+         * @param index       开始数据行下标（从0开始）
+         * @param readers     文件读接口构建函数，不同文件的数据行将被并发回调
+         * @param executor    解析任务执行器（任务必须异步执行）
+         * @param parallelism 并行数
+         * @param budget      共享字符串表内存预算（字节）
+         */
+        @Nonnull
+        public Ingestion(@Min(0) int index, Function<File, Reader> readers, Executor executor, @Min(1) int parallelism, @Min(1) long budget) {
+            this.index = index;
+            this.readers = readers;
+            this.executor = executor;
+            this.parallelism = parallelism;
+            this.budget = (int) Math.min(Math.max(budget >> 10, 1), Integer.MAX_VALUE);
+            this.slots = new Semaphore(parallelism);
+            this.memory = new Semaphore(this.budget);
         }
 
-        @Override
-        public int getRowIndex() {
-            return this.row.getRowNum();
+        /**
+         * 并发读取文件，文件按后缀名选择流式读取方式（xlsx、xls、csv），单个文件的异常不影响其他文件，所有文件读取完成后返回；
+         * 每次调用前清空上一批文件的读取数量及异常
+         *
+         * @param files 文件集合
+         * @return Excel文件批量并发读取器
+         */
+        @Nonnull
+        public Ingestion process(Iterable<File> files) {
+            this.counts.clear();
+            this.errors.clear();
+            try {
+                for (File file : files) {
+                    this.slots.acquire();
+                    try {
+                        this.executor.execute(() -> {
+                            try {
+                                this.counts.put(file, this.read(file));
+                            } catch (Throwable e) {
+                                this.errors.put(file, e);
+                            } finally {
+                                this.slots.release();
+                            }
+                        });
+                    } catch (RuntimeException e) {
+                        this.slots.release();
+                        throw e;
+                    }
+                }
+                this.slots.acquire(this.parallelism); // 等待所有文件读取完成
+                this.slots.release(this.parallelism);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            return this;
         }
 
-        @Override
-        public Sheet getSheet() {
-            throw new UnsupportedOperationException();
+        /**
+         * 读取单个文件，在内存预算许可范围内解析
+         *
+         * @param file 文件对象
+         * @return 读取数量
+         * @throws Exception 读取异常
+         */
+        private int read(File file) throws Exception {
+            Reader reader = this.readers.apply(file);
+            Type type = Type.parse(Files.getSuffix(file.getName()));
+            if (type == Type.CSV) {
+                return readCsv(file, this.index, reader);
+            } else if (type == Type.XLS) {
+                int permits = this.acquire(file.length());
+                try (POIFSFileSystem fs = new POIFSFileSystem(file, true)) {
+                    return Excels.read(fs, this.index, reader);
+                } finally {
+                    this.memory.release(permits);
+                }
+            }
+            OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ);
+            try {
+                List<PackagePart> parts = pkg.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType());
+                long size = parts.isEmpty() ? 0 : parts.get(0).getSize();
+                int permits = this.acquire(size < 0 ? file.length() * 4 : size * 2); // 字符串按UTF-16存储，未知大小时按压缩率估算
+                try {
+                    return Excels.read(pkg, this.index, reader);
+                } finally {
+                    this.memory.release(permits);
+                }
+            } finally {
+                pkg.revert(); // 只读文件包关闭时会记录警告日志，使用revert释放
+            }
         }
 
-        @Override
-        public Row getRow() {
-            return this.row;
+        /**
+         * 获取内存预算许可，单个文件的预估占用超过预算时按预算获取
+         *
+         * @param bytes 预估内存占用（字节）
+         * @return 许可数量（KB）
+         * @throws InterruptedException 线程中断异常
+         */
+        private int acquire(long bytes) throws InterruptedException {
+            int permits = (int) Math.min(bytes >> 10, this.budget);
+            this.memory.acquire(permits);
+            return permits;
         }
 
-        @Override
-        public void setCellType(CellType cellType) {
-            this.type = cellType;
+        /**
+         * 获取各文件读取数量
+         *
+         * @return 文件/读取数量映射
+         */
+        public Map<File, Integer> getCounts() {
+            return Collections.unmodifiableMap(this.counts);
         }
 
-        @Override
-        public CellType getCellType() {
-            return this.type;
+        /**
+         * 获取各文件读取异常
+         *
+         * @return 文件/异常映射
+         */
+        public Map<File, Throwable> getErrors() {
+            return Collections.unmodifiableMap(this.errors);
         }
 
-        @Override
-        public CellType getCellTypeEnum() {
-            return this.type;
+        /**
+         * 获取读取总数
+         *
+         * @return 读取总数
+         */
+        public int getCount() {
+            int count = 0;
+            for (int value : this.counts.values()) {
+                count += value;
+            }
+            return count;
         }
+    }
 
-        @Override
-        public CellType getCachedFormulaResultType() {
-            throw new UnsupportedOperationException();
+    /**
+     * Excel数据转码器，将流式读取的数据行经过可选的转换后写入流式输出目标（SXSSF工作薄、Excel2007数据直接写入器或CSV数据写入器），
+     * 表格容量超出时自动创建新表格并重复写入标题行
+     */
+    public static class Transcoder implements Reader, Closeable {
+        private int count; // 写入数量
+        private int number; // 当前表格行下标（工作薄输出时使用）
+        private Sheet sheet; // 当前表格（工作薄输出时使用）
+        private boolean started; // 是否已开始写入
+        private boolean heading; // 是否将第一个数据行作为标题行
+        private Writer<Row> transform; // 数据行转换接口
+        private int volume = DEFAULT_SHEET_VOLUME; // 表格容量
+        private String[] titles = Strings.EMPTY_ARRAY; // 表格标题数组
+        private final XMLRow row = new XMLRow(); // 复用转换数据行
+        protected final Workbook workbook; // 输出工作薄
+        protected final Excel2007Writer excel; // Excel2007数据直接写入器
+        protected final CsvWriter csv; // CSV数据写入器
+
+        @Nonnull
+        public Transcoder(Workbook workbook) {
+            this(workbook, null, null);
         }
 
-        @Override
-        public CellType getCachedFormulaResultTypeEnum() {
-            throw new UnsupportedOperationException();
+        @Nonnull
+        public Transcoder(Excel2007Writer excel) {
+            this(null, excel, null);
         }
 
-        @Override
-        public void setCellValue(double v) {
-            this.value = v;
+        @Nonnull
+        public Transcoder(CsvWriter csv) {
+            this(null, null, csv);
         }
 
-        @Override
-        public void setCellValue(Date date) {
-            this.value = date;
+        private Transcoder(Workbook workbook, Excel2007Writer excel, CsvWriter csv) {
+            this.workbook = workbook;
+            this.excel = excel;
+            this.csv = csv;
         }
 
-        @Override
-        public void setCellValue(Calendar calendar) {
-            throw new UnsupportedOperationException();
+        /**
+         * 设置数据行转换接口，转换后的数据行为空时将被忽略
+         *
+         * @param transform 数据行转换接口（目标数据行、原始数据行、当前记录数）
+         * @return Excel数据转码器
+         */
+        public Transcoder transform(Writer<Row> transform) {
+            this.transform = transform;
+            return this;
         }
 
-        @Override
-        public void setCellValue(RichTextString richTextString) {
-            throw new UnsupportedOperationException();
+        /**
+         * 设置是否将读取的第一个数据行作为标题行，标题行写入每个表格的第一行
+         *
+         * @param heading 是否将第一个数据行作为标题行
+         * @return Excel数据转码器
+         */
+        public Transcoder heading(boolean heading) {
+            this.heading = heading;
+            return this;
         }
 
-        @Override
-        public void setCellValue(String s) {
-            this.value = s;
+        /**
+         * 设置表格标题，每个表格的第一行写入标题
+         *
+         * @param titles 标题数组
+         * @return Excel数据转码器
+         */
+        @Nonnull
+        public Transcoder titles(String... titles) {
+            this.titles = titles;
+            if (this.excel != null) {
+                this.excel.titles(titles);
+            }
+            return this;
         }
 
-        @Override
-        public void setCellFormula(String s) throws FormulaParseException {
-            throw new UnsupportedOperationException();
+        /**
+         * 设置表格容量（包含标题行），超过容量时自动创建新表格，CSV输出不分表格
+         *
+         * @param volume 表格容量
+         * @return Excel数据转码器
+         */
+        public Transcoder volume(@Min(1) int volume) {
+            this.volume = volume;
+            if (this.excel != null) {
+                this.excel.volume(volume);
+            }
+            return this;
         }
 
-        @Override
-        public String getCellFormula() {
-            throw new UnsupportedOperationException();
+        /**
+         * 获取写入数量
+         *
+         * @return 写入数量
+         */
+        public int getCount() {
+            return this.count;
         }
 
         @Override
-        public double getNumericCellValue() {
-            return this.type == CellType.BLANK ? 0.0D : (double) this.value;
+        public void read(Row row, int count) {
+            if (this.heading && !this.started && this.titles.length == 0) { // 第一个数据行作为标题行
+                this.titles(getValues(row, String.class));
+                return;
+            }
+            Row target = row;
+            if (this.transform != null) {
+                this.row.clear();
+                this.row.setRowNum(row.getRowNum());
+                this.transform.write(this.row, row, count);
+                if (isEmpty(this.row)) {
+                    return;
+                }
+                target = this.row;
+            }
+            try {
+                this.write(target);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            this.count++;
         }
 
-        @Override
-        public Date getDateCellValue() {
-            return (Date) this.value;
+        /**
+         * 将数据行写入输出目标
+         *
+         * @param row 数据行
+         * @throws IOException IO操作异常
+         */
+        private void write(Row row) throws IOException {
+            this.start();
+            if (this.excel != null) {
+                this.excel.write(row);
+            } else if (this.csv != null) {
+                this.csv.write(row);
+            } else {
+                if (this.sheet == null || this.number >= this.volume) {
+                    this.sheet = this.workbook.createSheet();
+                    this.number = 0;
+                    if (this.titles.length > 0) {
+                        setTitles(this.sheet.createRow(this.number++), this.titles);
+                    }
+                }
+                copy(row, this.sheet.createRow(this.number++));
+            }
         }
 
-        @Override
-        public RichTextString getRichStringCellValue() {
-            throw new UnsupportedOperationException();
+        /**
+         * 开始写入，CSV输出时写入标题行
+         *
+         * @throws IOException IO操作异常
+         */
+        private void start() throws IOException {
+            if (!this.started) {
+                this.started = true;
+                if (this.csv != null && this.titles.length > 0) {
+                    this.csv.writeTitles(this.titles);
+                }
+            }
         }
 
+        /**
+         * 结束写入，关闭数据直接写入器或CSV数据写入器，工作薄由调用方负责写出
+         *
+         * @throws IOException IO操作异常
+         */
         @Override
-        public String getStringCellValue() {
-            return (String) this.value;
+        public void close() throws IOException {
+            this.start();
+            if (this.excel != null) {
+                this.excel.close();
+            } else if (this.csv != null) {
+                this.csv.close();
+            }
+        }
+    }
+
+    /**
+     * Excel写接口
+     *
+     * @param <T> 数据模型
+     */
+    public interface Writer<T> {
+        /**
+         * 将对象实例写入到Excel数据行
+         *
+         * @param row    数据行对象
+         * @param object 对象实例
+         * @param count  当前记录数（从1开始）
+         */
+        void write(Row row, T object, int count);
+    }
+
+    /**
+     * Excel读写器实现
+     */
+    public static class ReadWriter implements Reader {
+        private int row; // 当前行下标
+        private Sheet sheet; // 当前Excel表格
+        protected final int index; // 写入数据开始行下标
+        protected final Workbook workbook; // 写入数据Excel工作薄
+        protected final Writer<Row> writer; // 数据行写入接口
+
+        @Nonnull
+        public ReadWriter(Workbook workbook) {
+            this(workbook, 0);
+        }
+
+        @Nonnull
+        public ReadWriter(Workbook workbook, int index) {
+            this(workbook, index, (target, source, count) -> copy(source, target));
+        }
+
+        @Nonnull
+        public ReadWriter(Workbook workbook, Writer<Row> writer) {
+            this(workbook, 0, writer);
+        }
+
+        @Nonnull
+        public ReadWriter(Workbook workbook, @Min(0) int index, Writer<Row> writer) {
+            this.index = index;
+            this.writer = writer;
+            this.workbook = workbook;
         }
 
         @Override
-        public void setCellValue(boolean b) {
-            this.value = b;
+        public void read(Row row, int count) {
+            if (this.sheet == null || (this.row > this.index && this.row % DEFAULT_SHEET_VOLUME == 0)) {
+                this.row = index;
+                this.sheet = this.workbook.createSheet();
+            }
+            this.writer.write(this.sheet.createRow(this.row++), row, count);
+        }
+    }
+
+    /**
+     * 基于XML的Excel行实现，单元格按列下标存储在数组中，清空后单元格对象可被复用
+     */
+    public static class XMLRow implements Row {
+        /**
+         * 行下标（从0开始）
+         */
+        private int index;
+
+        /**
+         * 样式
+         */
+        private CellStyle style;
+
+        /**
+         * 单元格数量
+         */
+        private int size;
+
+        /**
+         * 单元格列下标数组（从小到大排序）
+         */
+        private int[] columns = new int[16];
+
+        /**
+         * 单元格数组（数组下标为列下标）
+         */
+        private XMLCell[] cells = new XMLCell[16];
+
+        /**
+         * 可复用单元格数组（数组下标为列下标）
+         */
+        private XMLCell[] pool = new XMLCell[16];
+
+        /**
+         * 清空行单元格，已创建的单元格对象将在之后创建单元格时复用
+         */
+        public void clear() {
+            for (int i = 0; i < this.size; i++) {
+                this.cells[this.columns[i]] = null;
+            }
+            this.size = 0;
+            this.style = null;
+        }
+
+        /**
+         * 拷贝当前行，行对象在读取过程中会被复用，需要保留行数据时使用拷贝对象
+         *
+         * @return 行对象副本
+         */
+        public XMLRow copy() {
+            XMLRow row = new XMLRow();
+            row.index = this.index;
+            row.style = this.style;
+            for (int i = 0; i < this.size; i++) {
+                XMLCell cell = this.cells[this.columns[i]];
+                ((XMLCell) row.createCell(cell.column, cell.type)).assign(cell);
+            }
+            return row;
         }
 
         @Override
-        public void setCellErrorValue(byte b) {
-            throw new UnsupportedOperationException();
+        public Cell createCell(int i) {
+            Cell cell = this.createCell(i, CellType.BLANK);
+            cell.setCellValue(Strings.EMPTY_STRING);
+            return cell;
         }
 
         @Override
-        public boolean getBooleanCellValue() {
-            return this.type == CellType.BLANK ? false : (boolean) this.value;
+        public Cell createCell(@Min(0) int i, CellType cellType) {
+            if (i >= this.cells.length) {
+                int length = Math.max(i + 1, this.cells.length * 2);
+                this.cells = Arrays.copyOf(this.cells, length);
+                this.pool = Arrays.copyOf(this.pool, length);
+            }
+            XMLCell cell = this.pool[i];
+            if (cell == null) {
+                cell = this.pool[i] = new XMLCell(this, i);
+            } else {
+                cell.assign(null);
+            }
+            if (this.cells[i] == null) { // 按列下标顺序插入
+                if (this.size == this.columns.length) {
+                    this.columns = Arrays.copyOf(this.columns, this.size * 2);
+                }
+                int position = this.size;
+                while (position > 0 && this.columns[position - 1] > i) {
+                    position--;
+                }
+                System.arraycopy(this.columns, position, this.columns, position + 1, this.size - position);
+                this.columns[position] = i;
+                this.size++;
+            }
+            this.cells[i] = cell;
+            cell.setCellType(cellType);
+            return cell;
         }
 
         @Override
-        public byte getErrorCellValue() {
-            throw new UnsupportedOperationException();
+        public void removeCell(Cell cell) {
+            if (cell != null && this.getCell(cell.getColumnIndex()) == cell) {
+                int column = cell.getColumnIndex(), position = 0;
+                while (this.columns[position] != column) {
+                    position++;
+                }
+                System.arraycopy(this.columns, position + 1, this.columns, position, --this.size - position);
+                this.cells[column] = null;
+            }
         }
 
         @Override
-        public void setCellStyle(CellStyle cellStyle) {
-            this.style = cellStyle;
+        public void setRowNum(@Min(0) int i) {
+            this.index = i;
         }
 
         @Override
-        public CellStyle getCellStyle() {
-            return this.style;
+        public int getRowNum() {
+            return this.index;
         }
 
         @Override
-        public void setAsActiveCell() {
+        public Cell getCell(int i) {
+            return this.getCell(i, MissingCellPolicy.RETURN_NULL_AND_BLANK);
+        }
+
+        @Override
+        public Cell getCell(int i, MissingCellPolicy missingCellPolicy) {
+            return i < 0 || i >= this.cells.length ? null : this.cells[i];
+        }
+
+        @Override
+        public short getFirstCellNum() {
+            return this.size == 0 ? -1 : (short) this.columns[0];
+        }
+
+        @Override
+        public short getLastCellNum() {
+            return this.size == 0 ? -1 : (short) (this.columns[this.size - 1] + 1);
+        }
+
+        @Override
+        public int getPhysicalNumberOfCells() {
+            return this.size;
+        }
+
+        @Override
+        public void setHeight(short i) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void shiftCellsRight(int i, int i1, int i2) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void shiftCellsLeft(int i, int i1, int i2) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setZeroHeight(boolean b) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean getZeroHeight() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setHeightInPoints(float v) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public short getHeight() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public float getHeightInPoints() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isFormatted() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CellStyle getRowStyle() {
+            return this.style;
+        }
+
+        @Override
+        public void setRowStyle(CellStyle cellStyle) {
+            this.style = cellStyle;
+        }
+
+        @Override
+        public Iterator<Cell> cellIterator() {
+            return new Iterator<Cell>() {
+                private int position; // 当前单元格位置
+
+                @Override
+                public boolean hasNext() {
+                    return this.position < size;
+                }
+
+                @Override
+                public Cell next() {
+                    if (this.position >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return cells[columns[this.position++]];
+                }
+            };
+        }
+
+        @Override
+        public Sheet getSheet() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int getOutlineLevel() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Iterator<Cell> iterator() {
+            return this.cellIterator();
+        }
+
+        @Override
+        public String toString() {
+            int last = -1;
+            List<Cell> cells = new LinkedList<>();
+            for (int i = 0; i < this.size; i++) {
+                int column = this.columns[i];
+                for (int j = last + 1; j < column; j++) {
+                    cells.add(null);
+                }
+                cells.add(this.cells[column]);
+                last = column;
+            }
+            return cells.toString();
+        }
+    }
+
+    /**
+     * 基于XML的Excel单元格实现
+     */
+    public static class XMLCell implements Cell {
+        private Row row;
+        private int column;
+        private Object value; // 对象值（字符串、真假、日期）
+        private double number; // 数字值
+        private boolean numeric; // 值是否为数字
+        private boolean datable; // 数字值是否为Excel日期
+        private String formula; // 公式
+        private CellType type;
+        private CellStyle style;
+
+        public XMLCell(@Nonnull Row row, @Min(0) int column) {
+            this.row = row;
+            this.column = column;
+        }
+
+        /**
+         * 将单元格值及样式设置为指定单元格的值及样式，单元格为空时重置当前单元格
+         *
+         * @param other 单元格对象
+         */
+        private void assign(XMLCell other) {
+            this.value = other == null ? null : other.value;
+            this.number = other == null ? 0 : other.number;
+            this.numeric = other != null && other.numeric;
+            this.datable = other != null && other.datable;
+            this.formula = other == null ? null : other.formula;
+            this.style = other == null ? null : other.style;
+        }
+
+        @Override
+        public int getColumnIndex() {
+            return this.column;
+        }
+
+        @Override
+        public int getRowIndex() {
+            return this.row.getRowNum();
+        }
+
+        @Override
+        public Sheet getSheet() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Row getRow() {
+            return this.row;
+        }
+
+        @Override
+        public void setCellType(CellType cellType) {
+            this.type = cellType;
+        }
+
+        @Override
+        public CellType getCellType() {
+            return this.type;
+        }
+
+        @Override
+        public CellType getCellTypeEnum() {
+            return this.type;
+        }
+
+        @Override
+        public CellType getCachedFormulaResultType() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CellType getCachedFormulaResultTypeEnum() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setCellValue(double v) {
+            this.value = null;
+            this.number = v;
+            this.numeric = true;
+            this.datable = false;
+            this.formula = null;
+        }
+
+        @Override
+        public void setCellValue(Date date) {
+            this.value = date;
+            this.numeric = false;
+            this.formula = null;
+        }
+
+        /**
+         * 设置Excel日期数字值，日期对象在获取时才构建
+         *
+         * @param v Excel日期数字值
+         */
+        private void setDateValue(double v) {
+            this.setCellValue(v);
+            this.datable = true;
+        }
+
+        @Override
+        public void setCellValue(Calendar calendar) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setCellValue(RichTextString richTextString) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setCellValue(String s) {
+            this.value = s;
+            this.numeric = false;
+            this.formula = null;
+        }
+
+        @Override
+        public void setCellFormula(String s) throws FormulaParseException {
+            this.value = null;
+            this.numeric = false;
+            this.formula = s;
+        }
+
+        @Override
+        public String getCellFormula() {
+            return this.formula;
+        }
+
+        @Override
+        public double getNumericCellValue() {
+            return this.numeric ? this.number : 0.0D;
+        }
+
+        @Override
+        public Date getDateCellValue() {
+            if (this.numeric && this.value == null) {
+                this.value = HSSFDateUtil.getJavaDate(this.number);
+            }
+            return (Date) this.value;
+        }
+
+        @Override
+        public RichTextString getRichStringCellValue() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getStringCellValue() {
+            return this.numeric ? null : (String) this.value;
+        }
+
+        @Override
+        public void setCellValue(boolean b) {
+            this.value = b;
+            this.numeric = false;
+            this.formula = null;
+        }
+
+        @Override
+        public void setCellErrorValue(byte b) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean getBooleanCellValue() {
+            return this.value instanceof Boolean && (Boolean) this.value;
+        }
+
+        @Override
+        public byte getErrorCellValue() {
             throw new UnsupportedOperationException();
         }
 
-        @Override
-        public CellAddress getAddress() {
-            return this.address;
+        @Override
+        public void setCellStyle(CellStyle cellStyle) {
+            this.style = cellStyle;
+        }
+
+        @Override
+        public CellStyle getCellStyle() {
+            return this.style;
+        }
+
+        @Override
+        public void setAsActiveCell() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CellAddress getAddress() {
+            return new CellAddress(this.getRowIndex(), this.column);
+        }
+
+        @Override
+        public void setCellComment(Comment comment) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Comment getCellComment() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void removeCellComment() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Hyperlink getHyperlink() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setHyperlink(Hyperlink hyperlink) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void removeHyperlink() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CellRangeAddress getArrayFormulaRange() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isPartOfArrayFormulaGroup() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * 获取单元格对象值，数字值在此时才装箱
+         *
+         * @return 对象值
+         */
+        private Object getObjectValue() {
+            return !this.numeric ? this.value : this.datable ? this.getDateCellValue() : (Object) this.number;
+        }
+
+        /**
+         * 判断单元格值是否为空白
+         *
+         * @return true/false
+         */
+        private boolean isBlank() {
+            if (this.numeric) {
+                return false;
+            } else if (this.value instanceof String) {
+                String value = (String) this.value;
+                for (int i = 0, len = value.length(); i < len; i++) {
+                    if (value.charAt(i) > ' ') {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return this.value == null;
+        }
+
+        @Override
+        public String toString() {
+            Object value = this.getObjectValue();
+            return value == null ? null : value.toString();
+        }
+    }
+
+    /**
+     * 基于内存映射文件的共享字符串表实现，字符串数据及偏移索引存储在临时文件中，堆内只保留有限容量的LRU缓存；
+     * 内存映射在对象关闭后由垃圾回收释放，释放前临时文件可能无法删除（Windows下文件被锁定，将在虚拟机退出时删除）
+     */
+    public static class MappedSharedStrings implements SharedStrings, Closeable {
+        /**
+         * 内存映射分段大小
+         */
+        private static final int SEGMENT_SIZE = 1 << 30;
+
+        private int count; // 字符串引用总数
+        private int unique; // 字符串数量
+        private File data; // 字符串数据文件
+        private File index; // 字符串偏移索引文件
+        private volatile ByteBuffer[] datas; // 字符串数据映射分段
+        private volatile ByteBuffer[] indexes; // 字符串偏移索引映射分段
+        private final Map<Integer, String> cache; // 字符串LRU缓存
+
+        public MappedSharedStrings(@Nonnull InputStream input, @Min(1) int cache) throws IOException, SAXException {
+            this.cache = new LinkedHashMap<Integer, String>(Math.min(cache, 1024), 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+                    return this.size() > cache;
+                }
+            };
+            this.data = File.createTempFile("excel", ".sst");
+            this.index = File.createTempFile("excel", ".idx");
+            try {
+                try (OutputStream dataOutput = new BufferedOutputStream(new FileOutputStream(this.data));
+                     DataOutputStream indexOutput = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(this.index)))) {
+                    this.store(input, dataOutput, indexOutput);
+                }
+                this.datas = map(this.data);
+                this.indexes = map(this.index);
+            } catch (IOException | SAXException | RuntimeException e) {
+                this.close();
+                throw e;
+            }
+        }
+
+        /**
+         * 解析共享字符串XML并写入数据文件及偏移索引文件
+         *
+         * @param input       共享字符串XML输入流
+         * @param dataOutput  字符串数据输出流
+         * @param indexOutput 字符串偏移索引输出流
+         * @throws IOException  IO操作异常
+         * @throws SAXException 解析异常
+         */
+        private void store(InputStream input, OutputStream dataOutput, DataOutputStream indexOutput) throws IOException, SAXException {
+            long[] offset = {0};
+            StringBuilder text = new StringBuilder();
+            indexOutput.writeLong(0);
+            XMLReader parser = XMLReaderFactory.createXMLReader("org.apache.xerces.parsers.SAXParser");
+            parser.setContentHandler(new DefaultHandler() {
+                private boolean texting; // 是否为文本标签
+                private boolean phonetic; // 是否为注音标签
+
+                @Override
+                public void characters(char[] ch, int start, int length) {
+                    if (this.texting) {
+                        text.append(ch, start, length);
+                    }
+                }
+
+                @Override
+                public void startElement(String uri, String localName, String name, Attributes attributes) {
+                    if ("sst".equals(name)) {
+                        String count = attributes.getValue("count");
+                        MappedSharedStrings.this.count = count == null ? 0 : Integer.parseInt(count);
+                    } else if ("si".equals(name)) {
+                        text.setLength(0);
+                    } else if ("rPh".equals(name)) {
+                        this.phonetic = true;
+                    } else if ("t".equals(name)) {
+                        this.texting = !this.phonetic;
+                    }
+                }
+
+                @Override
+                public void endElement(String uri, String localName, String name) throws SAXException {
+                    if ("t".equals(name)) {
+                        this.texting = false;
+                    } else if ("rPh".equals(name)) {
+                        this.phonetic = false;
+                    } else if ("si".equals(name)) {
+                        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+                        try {
+                            dataOutput.write(bytes);
+                            indexOutput.writeLong(offset[0] += bytes.length);
+                        } catch (IOException e) {
+                            throw new SAXException(e);
+                        }
+                        MappedSharedStrings.this.unique++;
+                    }
+                }
+            });
+            parser.parse(new InputSource(input));
+        }
+
+        /**
+         * 获取字符串（已解码转义字符）
+         *
+         * @param idx 字符串下标（从0开始）
+         * @return 字符串
+         */
+        public String getString(int idx) {
+            synchronized (this.cache) {
+                String string = this.cache.get(idx);
+                if (string != null) {
+                    return string;
+                }
+            }
+            String string = decode(this.getText(idx));
+            synchronized (this.cache) {
+                this.cache.put(idx, string);
+            }
+            return string;
+        }
+
+        /**
+         * 获取原始字符串（未解码转义字符）
+         *
+         * @param idx 字符串下标（从0开始）
+         * @return 原始字符串
+         */
+        private String getText(int idx) {
+            ByteBuffer[] datas = this.datas, indexes = this.indexes;
+            if (datas == null || indexes == null) {
+                throw new IllegalStateException("Shared strings have been closed");
+            } else if (idx < 0 || idx >= this.unique) {
+                throw new IndexOutOfBoundsException("Invalid shared string index: " + idx);
+            }
+            long start = offset(indexes, idx);
+            byte[] bytes = new byte[(int) (offset(indexes, idx + 1) - start)];
+            for (int i = 0; i < bytes.length; ) { // 按映射分段读取字符串数据
+                ByteBuffer buffer = datas[(int) ((start + i) / SEGMENT_SIZE)].duplicate();
+                buffer.position((int) ((start + i) % SEGMENT_SIZE));
+                int length = Math.min(bytes.length - i, buffer.remaining());
+                buffer.get(bytes, i, length);
+                i += length;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * 获取字符串数据偏移量
+         *
+         * @param indexes 字符串偏移索引映射分段
+         * @param idx     字符串下标（从0开始）
+         * @return 偏移量
+         */
+        private static long offset(ByteBuffer[] indexes, int idx) {
+            long position = (long) idx * 8;
+            return indexes[(int) (position / SEGMENT_SIZE)].getLong((int) (position % SEGMENT_SIZE));
+        }
+
+        @Override
+        public RichTextString getItemAt(int idx) {
+            return new XSSFRichTextString(this.getText(idx)); // 富文本获取字符串时自行解码转义字符
+        }
+
+        @Override
+        public int getCount() {
+            return this.count;
+        }
+
+        @Override
+        public int getUniqueCount() {
+            return this.unique;
+        }
+
+        /**
+         * 关闭共享字符串表，关闭后获取字符串将抛出IllegalStateException异常；
+         * 映射分段不会立即解除映射，在垃圾回收时释放，释放前临时文件若无法删除将在虚拟机退出时删除
+         */
+        @Override
+        public void close() {
+            this.datas = null;
+            this.indexes = null;
+            synchronized (this.cache) {
+                this.cache.clear();
+            }
+            for (File file : new File[]{this.data, this.index}) {
+                if (file != null && !file.delete()) {
+                    file.deleteOnExit();
+                }
+            }
+        }
+
+        /**
+         * 将文件按分段映射到内存
+         *
+         * @param file 文件对象
+         * @return 映射分段数组
+         * @throws IOException IO操作异常
+         */
+        private static ByteBuffer[] map(File file) throws IOException {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                long size = channel.size();
+                ByteBuffer[] buffers = new ByteBuffer[(int) ((size + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+                for (int i = 0; i < buffers.length; i++) {
+                    long position = (long) i * SEGMENT_SIZE;
+                    buffers[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, size - position));
+                }
+                return buffers;
+            }
+        }
+
+        /**
+         * 解码字符串中“_xHHHH_”形式的转义字符
+         *
+         * @param text 原始字符串
+         * @return 解码后字符串
+         */
+        private static String decode(CharSequence text) {
+            StringBuilder buffer = null;
+            int last = 0, length = text.length();
+            for (int i = 0; i + 6 < length; i++) {
+                if (text.charAt(i) == '_' && text.charAt(i + 1) == 'x' && text.charAt(i + 6) == '_') {
+                    int code = 0;
+                    for (int j = i + 2; j < i + 6 && code >= 0; j++) {
+                        int digit = Character.digit(text.charAt(j), 16);
+                        code = digit < 0 ? -1 : code * 16 + digit;
+                    }
+                    if (code >= 0) {
+                        if (buffer == null) {
+                            buffer = new StringBuilder(length);
+                        }
+                        buffer.append(text, last, i).append((char) code);
+                        last = i + 7;
+                        i += 6;
+                    }
+                }
+            }
+            return buffer == null ? text.toString() : buffer.append(text, last, length).toString();
+        }
+    }
+
+    /**
+     * 解析终止异常，读取数据行数量达到限制时用于提前结束当前表格解析，不记录异常栈
+     */
+    private static class Termination extends SAXException {
+        private static final long serialVersionUID = 1L;
+
+        public Termination() {
+            super("Excel parsing has been terminated");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /**
+     * 基于XML数据流读取器当前元素的SAX属性适配实现
+     */
+    private static class StreamAttributes implements Attributes {
+        private final XMLStreamReader reader;
+
+        public StreamAttributes(XMLStreamReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public int getLength() {
+            return this.reader.getAttributeCount();
+        }
+
+        @Override
+        public String getURI(int index) {
+            String uri = this.reader.getAttributeNamespace(index);
+            return uri == null ? Strings.EMPTY_STRING : uri;
+        }
+
+        @Override
+        public String getLocalName(int index) {
+            return this.reader.getAttributeLocalName(index);
+        }
+
+        @Override
+        public String getQName(int index) {
+            String prefix = this.reader.getAttributePrefix(index);
+            String name = this.reader.getAttributeLocalName(index);
+            return prefix == null || prefix.isEmpty() ? name : prefix + ':' + name;
+        }
+
+        @Override
+        public String getType(int index) {
+            return this.reader.getAttributeType(index);
+        }
+
+        @Override
+        public String getValue(int index) {
+            return this.reader.getAttributeValue(index);
+        }
+
+        @Override
+        public int getIndex(String uri, String localName) {
+            for (int i = 0, len = this.getLength(); i < len; i++) {
+                if (localName.equals(this.getLocalName(i)) && uri.equals(this.getURI(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int getIndex(String qName) {
+            for (int i = 0, len = this.getLength(); i < len; i++) {
+                if (qName.equals(this.getQName(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public String getType(String uri, String localName) {
+            int index = this.getIndex(uri, localName);
+            return index < 0 ? null : this.getType(index);
+        }
+
+        @Override
+        public String getType(String qName) {
+            int index = this.getIndex(qName);
+            return index < 0 ? null : this.getType(index);
+        }
+
+        @Override
+        public String getValue(String uri, String localName) {
+            int index = this.getIndex(uri, localName);
+            return index < 0 ? null : this.getValue(index);
+        }
+
+        @Override
+        public String getValue(String qName) {
+            if (qName.indexOf(':') < 0) {
+                return this.reader.getAttributeValue(null, qName);
+            }
+            int index = this.getIndex(qName);
+            return index < 0 ? null : this.getValue(index);
+        }
+    }
+
+    /**
+     * 表格行偏移索引，首次流式解析表格时每隔指定数量的行记录一次行开始标签在解压后表格数据中的字节偏移，
+     * 再次读取时从开始行之前最近的检查点处继续解析，跳过之前数据行的XML解析及单元格构建
+     */
+    public static class RowIndex {
+        /**
+         * 索引文件标识
+         */
+        private static final int MAGIC = 0x52494458;
+
+        /**
+         * 索引文件版本
+         */
+        private static final int VERSION = 1;
+
+        /**
+         * 表格头部（首行之前的数据）最大字节数
+         */
+        private static final int MAX_HEADER_SIZE = 1 << 20;
+
+        private final int interval; // 检查点行间隔
+        private final Map<Integer, Entry> entries = new ConcurrentHashMap<>(); // 表格下标/表格索引映射
+
+        public RowIndex(@Min(1) int interval) {
+            this.interval = interval;
+        }
+
+        /**
+         * 获取检查点行间隔
+         *
+         * @return 行间隔
+         */
+        public int getInterval() {
+            return this.interval;
+        }
+
+        /**
+         * 判断表格索引是否已完整建立
+         *
+         * @param sheet 表格下标（从0开始）
+         * @return true/false
+         */
+        public boolean isComplete(int sheet) {
+            Entry entry = this.entries.get(sheet);
+            return entry != null && entry.complete;
+        }
+
+        /**
+         * 获取表格索引检查点数量
+         *
+         * @param sheet 表格下标（从0开始）
+         * @return 检查点数量
+         */
+        public int getCheckpoints(int sheet) {
+            Entry entry = this.entries.get(sheet);
+            return entry == null ? 0 : entry.size;
+        }
+
+        /**
+         * 清空索引
+         */
+        public void clear() {
+            this.entries.clear();
+        }
+
+        /**
+         * 保存索引文件，同时记录源文件长度及修改时间用于加载时校验索引是否过期
+         *
+         * @param file   索引文件
+         * @param source Excel源文件
+         * @throws IOException IO操作异常
+         */
+        @Nonnull
+        public void save(File file, File source) throws IOException {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeInt(this.interval);
+                output.writeLong(source.length());
+                output.writeLong(source.lastModified());
+                List<Map.Entry<Integer, Entry>> entries = new ArrayList<>(this.entries.entrySet()); // 并发解析可能新增表格索引，按快照写入
+                output.writeInt(entries.size());
+                for (Map.Entry<Integer, Entry> item : entries) {
+                    Entry entry = item.getValue();
+                    synchronized (entry) {
+                        output.writeInt(item.getKey());
+                        output.writeBoolean(entry.complete);
+                        output.writeBoolean(entry.disabled);
+                        output.writeInt(entry.header == null ? -1 : entry.header.length);
+                        if (entry.header != null) {
+                            output.write(entry.header);
+                        }
+                        output.writeInt(entry.size);
+                        for (int i = 0; i < entry.size; i++) {
+                            output.writeInt(entry.rows[i]);
+                            output.writeLong(entry.offsets[i]);
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * 加载索引文件
+         *
+         * @param file   索引文件
+         * @param source Excel源文件
+         * @return 行偏移索引，索引文件不存在、格式不匹配或源文件已修改时返回null
+         * @throws IOException IO操作异常
+         */
+        @Nonnull
+        public static RowIndex load(File file, File source) throws IOException {
+            if (!file.isFile()) {
+                return null;
+            }
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                    return null;
+                }
+                RowIndex index = new RowIndex(input.readInt());
+                if (input.readLong() != source.length() || input.readLong() != source.lastModified()) {
+                    return null;
+                }
+                for (int i = 0, count = input.readInt(); i < count; i++) {
+                    int sheet = input.readInt();
+                    Entry entry = new Entry();
+                    entry.complete = input.readBoolean();
+                    entry.disabled = input.readBoolean();
+                    int length = input.readInt();
+                    if (length >= 0) {
+                        entry.header = new byte[length];
+                        input.readFully(entry.header);
+                    }
+                    int size = input.readInt();
+                    entry.rows = new int[Math.max(size, 16)];
+                    entry.offsets = new long[entry.rows.length];
+                    for (int n = 0; n < size; n++) {
+                        entry.rows[n] = input.readInt();
+                        entry.offsets[n] = input.readLong();
+                    }
+                    entry.size = size;
+                    index.entries.put(sheet, entry);
+                }
+                return index;
+            }
+        }
+
+        /**
+         * 打开表格数据流，存在开始行之前的检查点时跳转到检查点处，索引未完整建立时在读取过程中记录检查点
+         *
+         * @param sheet  表格下标（从0开始）
+         * @param input  表格数据输入流
+         * @param target 需要解析的首行下标
+         * @return 表格数据输入流
+         * @throws IOException IO操作异常
+         */
+        private InputStream open(int sheet, InputStream input, int target) throws IOException {
+            Entry entry = this.entries.computeIfAbsent(sheet, key -> new Entry());
+            int checkpoint;
+            long offset;
+            byte[] header;
+            synchronized (entry) {
+                if (entry.disabled) {
+                    return input;
+                }
+                checkpoint = entry.search(target);
+                if (checkpoint < 1 || entry.header == null) {
+                    return entry.complete ? input : new Recorder(input, entry, this.interval, 0, 0);
+                }
+                offset = entry.offsets[checkpoint];
+                header = entry.header;
+            }
+            byte[] buffer = new byte[8192];
+            try {
+                for (long remaining = offset; remaining > 0; ) { // 压缩数据无法随机定位，解压并丢弃检查点之前的数据
+                    int n = input.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (n < 0) {
+                        throw new EOFException("Unexpected end of sheet data at offset: " + (offset - remaining));
+                    }
+                    remaining -= n;
+                }
+            } catch (IOException e) {
+                input.close();
+                throw e;
+            }
+            InputStream rows = entry.complete ? input : new Recorder(input, entry, this.interval, offset, checkpoint * this.interval);
+            return new SequenceInputStream(new ByteArrayInputStream(header), rows);
+        }
+
+        /**
+         * 表格索引
+         */
+        private static class Entry {
+            private int size; // 检查点数量
+            private int[] rows = new int[16]; // 检查点行下标数组
+            private long[] offsets = new long[16]; // 检查点字节偏移数组
+            private byte[] header; // 表格头部数据
+            private boolean complete; // 是否已完整建立
+            private boolean disabled; // 是否不可建立索引（行未指定下标或下标非递增）
+
+            /**
+             * 查找行下标不大于目标行的最后一个检查点
+             *
+             * @param target 目标行下标
+             * @return 检查点下标，不存在时返回-1
+             */
+            private int search(int target) {
+                int low = 0, high = this.size - 1, found = -1;
+                while (low <= high) {
+                    int middle = (low + high) >>> 1;
+                    if (this.rows[middle] <= target) {
+                        found = middle;
+                        low = middle + 1;
+                    } else {
+                        high = middle - 1;
+                    }
+                }
+                return found;
+            }
+
+            /**
+             * 追加检查点，已存在的检查点将被忽略
+             *
+             * @param checkpoint 检查点下标
+             * @param row        行下标
+             * @param offset     字节偏移
+             */
+            private synchronized void append(int checkpoint, int row, long offset) {
+                if (this.disabled || checkpoint != this.size) {
+                    return;
+                }
+                if (this.size > 0 && row <= this.rows[this.size - 1]) {
+                    this.disable();
+                    return;
+                }
+                if (this.size == this.rows.length) {
+                    this.rows = Arrays.copyOf(this.rows, this.size * 2);
+                    this.offsets = Arrays.copyOf(this.offsets, this.size * 2);
+                }
+                this.rows[this.size] = row;
+                this.offsets[this.size++] = offset;
+            }
+
+            /**
+             * 标记表格不可建立索引并清空检查点
+             */
+            private synchronized void disable() {
+                this.disabled = true;
+                this.size = 0;
+                this.header = null;
+            }
+        }
+
+        /**
+         * 表格数据记录输入流，在数据透传过程中扫描行开始标签并记录检查点
+         */
+        private static class Recorder extends FilterInputStream {
+            private static final int TEXT = 0; // 文本内容
+            private static final int NAME = 1; // 标签名称
+            private static final int ATTRIBUTE = 2; // 行标签属性名称
+            private static final int QUOTE = 3; // 属性值开始引号
+            private static final int VALUE = 4; // 非行下标属性值
+            private static final int NUMBER = 5; // 行下标属性值
+
+            private final Entry entry; // 表格索引
+            private final int interval; // 检查点行间隔
+            private long position; // 当前字节偏移
+            private long start; // 当前标签开始偏移
+            private int ordinal; // 当前行序号
+            private int state = TEXT; // 扫描状态
+            private int matched; // 标签/属性名称已匹配字符数（-1表示不匹配）
+            private int quote; // 属性值引号字符
+            private int number; // 行下标属性值
+            private boolean stopped; // 是否停止扫描
+            private ByteArrayOutputStream header; // 表格头部数据缓冲
+
+            public Recorder(InputStream input, Entry entry, int interval, long position, int ordinal) {
+                super(input);
+                this.entry = entry;
+                this.interval = interval;
+                this.position = position;
+                this.ordinal = ordinal;
+                synchronized (entry) {
+                    if (position == 0 && entry.header == null) {
+                        this.header = new ByteArrayOutputStream();
+                    }
+                }
+            }
+
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b < 0) {
+                    this.finish();
+                } else if (!this.stopped) {
+                    this.scan(new byte[]{(byte) b}, 0, 1);
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int n = super.read(b, off, len);
+                if (n < 0) {
+                    this.finish();
+                } else if (!this.stopped) {
+                    this.scan(b, off, n);
+                }
+                return n;
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                throw new IOException("Skip is not supported while recording row index");
+            }
+
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+
+            /**
+             * 数据读取完成
+             */
+            private void finish() {
+                if (!this.stopped) {
+                    this.stopped = true;
+                    synchronized (this.entry) {
+                        this.entry.complete = !this.entry.disabled;
+                    }
+                }
+            }
+
+            /**
+             * 停止扫描并标记表格不可建立索引
+             */
+            private void disable() {
+                this.stopped = true;
+                this.entry.disable();
+            }
+
+            /**
+             * 扫描数据块
+             *
+             * @param b   数据缓冲区
+             * @param off 开始位置
+             * @param len 数据长度
+             */
+            private void scan(byte[] b, int off, int len) {
+                if (this.header != null) {
+                    if (this.header.size() + len > MAX_HEADER_SIZE) {
+                        this.disable();
+                        return;
+                    }
+                    this.header.write(b, off, len);
+                }
+                for (int i = off, end = off + len; i < end && !this.stopped; i++, this.position++) {
+                    int c = b[i] & 0xff;
+                    boolean blank = c == ' ' || c == '\t' || c == '\r' || c == '\n';
+                    if (this.state == TEXT) {
+                        if (c == '<') {
+                            this.state = NAME;
+                            this.start = this.position;
+                            this.matched = 0;
+                        }
+                    } else if (this.state == NAME) {
+                        if (blank || c == '>' || c == '/') {
+                            if (this.matched != 3) {
+                                this.state = TEXT;
+                            } else if (blank) {
+                                this.state = ATTRIBUTE;
+                                this.matched = 0;
+                            } else {
+                                this.disable(); // 行未指定下标
+                            }
+                        } else if (c == ':') {
+                            this.matched = 0;
+                        } else {
+                            this.matched = this.matched >= 0 && this.matched < 3 && c == "row".charAt(this.matched) ? this.matched + 1 : -1;
+                        }
+                    } else if (this.state == ATTRIBUTE) {
+                        if (c == '=') {
+                            this.state = QUOTE;
+                        } else if (c == '>' || c == '/') {
+                            this.disable(); // 行未指定下标
+                        } else if (blank) {
+                            if (this.matched != 1) {
+                                this.matched = 0;
+                            }
+                        } else {
+                            this.matched = this.matched == 0 && c == 'r' ? 1 : -1;
+                        }
+                    } else if (this.state == QUOTE) {
+                        if (c == '"' || c == '\'') {
+                            this.quote = c;
+                            this.number = 0;
+                            this.state = this.matched == 1 ? NUMBER : VALUE;
+                        }
+                    } else if (this.state == VALUE) {
+                        if (c == this.quote) {
+                            this.state = ATTRIBUTE;
+                            this.matched = 0;
+                        }
+                    } else if (c >= '0' && c <= '9') {
+                        this.number = this.number * 10 + c - '0';
+                    } else if (c == this.quote && this.number > 0) {
+                        this.record(this.number - 1);
+                        this.state = TEXT;
+                    } else {
+                        this.disable(); // 行下标格式错误
+                    }
+                }
+            }
+
+            /**
+             * 记录行开始标签
+             *
+             * @param row 行下标
+             */
+            private void record(int row) {
+                if (this.header != null) {
+                    byte[] header = Arrays.copyOf(this.header.toByteArray(), (int) this.start);
+                    this.header = null;
+                    synchronized (this.entry) {
+                        if (this.entry.header == null && !this.entry.disabled) {
+                            this.entry.header = header;
+                        }
+                    }
+                }
+                if (this.ordinal % this.interval == 0) {
+                    this.entry.append(this.ordinal / this.interval, row, this.start);
+                }
+                this.ordinal++;
+            }
+        }
+    }
+
+    /**
+     * Excel2007数据读取处理器抽象实现
+     */
+    public static abstract class AbstractExcel2007Reader extends DefaultHandler implements Reader {
+        /**
+         * StAX解析方式下需要解析的元素名称集合
+         */
+        private static final Set<String> STAX_ELEMENTS = new HashSet<>(Arrays.asList("worksheet", "sheetData", "row", "c", "v", "is", "r", "t"));
+
+        private Row row; // 当前行
+        private Cell cell; // 当前单元格
+        private int count; // 迭代数量
+        private int index; // 开始行下标
+        private int number; // 当前行下标
+        private int column; // 当前列下标
+        private int length; // 当前单元格值长度
+        private char[] value; // 当前单元格值缓冲区
+        private XMLRow recycle; // 复用行对象
+        private boolean recycling; // 是否复用行对象
+        private Row pending; // 拉模式下待获取的数据行
+        private boolean pulling; // 是否为拉模式
+        private XMLReader saxParser; // SAX解析器
+        private XMLInputFactory staxFactory; // StAX解析器工厂
+        private Parser parser = Parser.SAX; // XML解析方式
+        private boolean ordered; // 并行解析时是否按表格顺序回调
+        private Executor executor; // 并行解析任务执行器
+        private volatile boolean closed; // 并行解析是否已关闭
+        private Thread consumer; // 并行解析时回调数据行的调用线程
+        private int mapping; // 共享字符串内存映射缓存容量（0表示不使用内存映射）
+        private int sheet; // 当前表格下标
+        private int offset; // 需要跳过的数据行数
+        private int skipped; // 已跳过的数据行数
+        private int limit = Integer.MAX_VALUE; // 最大读取数据行数
+        private Set<Object> sheets; // 需要解析的表格下标及名称集合（为空表示解析所有表格）
+        private boolean ignored; // 当前单元格是否不在投影列中
+        private boolean heading; // 当前行是否为投影标题行
+        private boolean[] projection; // 投影列标识数组（为空表示读取所有列）
+        private Set<String> titles; // 投影列标题集合
+        private RowIndex offsets; // 行偏移索引
+        protected boolean datable; // 值是否为日期
+        protected boolean[] dates; // 日期格式样式标识数组（按样式下标）
+        protected boolean related; // 数据是否关联
+        protected OPCPackage pkg; // 文件包
+        protected SharedStringsTable shared; // 共享字符串表（使用内存映射时为空）
+        private MappedSharedStrings mapped; // 内存映射共享字符串表（未使用内存映射时为空）
+        private final boolean addressing; // 子类是否重写了已过时的单元格地址解析方法
+        private final boolean valuing; // 子类是否重写了已过时的字符串单元格值初始化方法
+
+        public AbstractExcel2007Reader(OPCPackage pkg) {
+            this(pkg, 0);
+        }
+
+        @Nonnull
+        public AbstractExcel2007Reader(OPCPackage pkg, @Min(0) int index) {
+            this.pkg = pkg;
+            this.index = index;
+            this.value = new char[64];
+            this.addressing = isOverridden(this.getClass(), "analyseCellAddress", Attributes.class);
+            this.valuing = isOverridden(this.getClass(), "initializeCellValue", Cell.class, String.class);
+        }
+
+        /**
+         * 判断子类是否重写了当前类中的指定方法
+         *
+         * @param type           子类类型
+         * @param name           方法名称
+         * @param parameterTypes 方法参数类型数组
+         * @return true/false
+         */
+        private static boolean isOverridden(Class<?> type, String name, Class<?>... parameterTypes) {
+            for (Class<?> cls = type; cls != AbstractExcel2007Reader.class; cls = cls.getSuperclass()) {
+                try {
+                    cls.getDeclaredMethod(name, parameterTypes);
+                    return true;
+                } catch (NoSuchMethodException e) {
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 设置是否复用行对象，开启后所有数据行使用同一个行对象，回调结束后行对象将被清空，读接口需要保留数据行时必须拷贝
+         *
+         * @param recycling 是否复用行对象
+         * @return Excel2007数据读取处理器
+         */
+        public AbstractExcel2007Reader recycle(boolean recycling) {
+            this.recycling = recycling;
+            return this;
+        }
+
+        /**
+         * 构建行对象，解析行开始标签时调用，默认每行构建新的行对象，开启行对象复用时复用同一个行对象
+         *
+         * @return 行对象实例
+         */
+        protected Row buildRow() {
+            if (!this.recycling) {
+                return new XMLRow();
+            } else if (this.recycle == null) {
+                this.recycle = new XMLRow();
+            } else {
+                this.recycle.clear();
+            }
+            return this.recycle;
+        }
+
+        /**
+         * 构建单元格，解析单元格开始标签时调用
+         *
+         * @param row    行对象
+         * @param column 列下标（从0开始）
+         * @return 单元格对象
+         */
+        @Nonnull
+        protected Cell buildCell(Row row, @Min(0) int column) {
+            return row.createCell(column);
+        }
+
+        /**
+         * 构建表格并行解析处理器，并行模式下每个表格使用独立的处理器解析，支持并行解析的子类必须重写此方法，
+         * 返回的处理器需保留子类重写的构建/初始化方法并将数据行转交给指定接口
+         *
+         * @param reader 数据行转交接口
+         * @return Excel2007数据读取处理器
+         */
+        @Nonnull
+        protected AbstractExcel2007Reader fork(Reader reader) {
+            throw new UnsupportedOperationException("Parallel parsing is not supported by " + this.getClass().getName()
+                    + ", fork(Reader) must be overridden");
+        }
+
+        /**
+         * 设置并行解析模式，每个表格在执行器中使用独立的解析器及处理器解析，数据行统一在调用线程中回调；
+         * 未重写fork(Reader)方法的子类不支持并行解析，将抛出IllegalStateException异常
+         *
+         * @param executor 解析任务执行器（任务必须异步执行，在调用线程中同步执行时表格数据行超过队列容量将抛出IllegalStateException异常）
+         * @param ordered  是否按表格顺序回调，否则按解析完成顺序回调
+         * @return Excel2007数据读取处理器
+         */
+        @Nonnull
+        public AbstractExcel2007Reader parallel(Executor executor, boolean ordered) {
+            try {
+                this.fork((row, count) -> {
+                });
+            } catch (UnsupportedOperationException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            this.executor = executor;
+            this.ordered = ordered;
+            return this;
+        }
+
+        /**
+         * 设置共享字符串表使用内存映射文件存储，字符串数量较大时可有效控制堆内存占用
+         *
+         * @param cache 字符串LRU缓存容量
+         * @return Excel2007数据读取处理器
+         */
+        public AbstractExcel2007Reader mapping(@Min(1) int cache) {
+            this.mapping = cache;
+            return this;
+        }
+
+        /**
+         * 设置读取数据行窗口，跳过开始行下标之后的前offset个非空数据行，读取数量达到limit后关闭表格数据流并结束解析
+         *
+         * @param offset 跳过的数据行数
+         * @param limit  最大读取数据行数
+         * @return Excel2007数据读取处理器
+         */
+        public AbstractExcel2007Reader window(@Min(0) int offset, @Min(1) int limit) {
+            this.offset = offset;
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * 设置行偏移索引，索引中存在开始行（按标题投影时为标题行）之前的检查点时从检查点处开始解析，否则在解析过程中建立索引
+         *
+         * @param offsets 行偏移索引
+         * @return Excel2007数据读取处理器
+         */
+        public AbstractExcel2007Reader index(RowIndex offsets) {
+            this.offsets = offsets;
+            return this;
+        }
+
+        /**
+         * 设置需要解析的表格，未选中的表格不会被解析
+         *
+         * @param indexes 表格下标数组（从0开始）
+         * @return Excel2007数据读取处理器
+         */
+        @Nonnull
+        public AbstractExcel2007Reader sheets(int... indexes) {
+            if (this.sheets == null) {
+                this.sheets = new HashSet<>();
+            }
+            for (int index : indexes) {
+                this.sheets.add(index);
+            }
+            return this;
+        }
+
+        /**
+         * 设置需要解析的表格，未选中的表格不会被解析
+         *
+         * @param names 表格名称数组
+         * @return Excel2007数据读取处理器
+         */
+        @Nonnull
+        public AbstractExcel2007Reader sheets(String... names) {
+            if (this.sheets == null) {
+                this.sheets = new HashSet<>();
+            }
+            this.sheets.addAll(Arrays.asList(names));
+            return this;
+        }
+
+        /**
+         * 设置投影列，只解析指定列的单元格，其他单元格不构建对象、不缓冲值也不查询共享字符串表
+         *
+         * @param columns 列下标数组（从0开始）
+         * @return Excel2007数据读取处理器
+         */
+        @Nonnull
+        public AbstractExcel2007Reader columns(int... columns) {
+            int size = 0;
+            for (int column : columns) {
+                if (column < 0) {
+                    throw new IllegalArgumentException("Invalid column: " + column);
+                }
+                size = Math.max(size, column + 1);
+            }
+            this.titles = null;
+            this.projection = new boolean[size];
+            for (int column : columns) {
+                this.projection[column] = true;
+            }
+            return this;
+        }
+
+        /**
+         * 按标题设置投影列，标题行为开始数据行的前一行，每个表格分别根据各自的标题行确定投影列，没有标题行的表格不读取任何数据
+         *
+         * @param titles 列标题数组
+         * @return Excel2007数据读取处理器
+         */
+        @Nonnull
+        public AbstractExcel2007Reader columns(String... titles) {
+            if (this.index < 1) {
+                throw new IllegalStateException("Title row does not exist before row index: " + this.index);
+            }
+            this.projection = null;
+            this.titles = new HashSet<>(Arrays.asList(titles));
+            return this;
+        }
+
+        /**
+         * 根据标题行确定投影列
+         *
+         * @param row 标题行
+         */
+        private void project(Row row) {
+            boolean[] projection = new boolean[Math.max(row.getLastCellNum(), 0)];
+            for (Cell cell : row) {
+                Object value = getValue(cell);
+                if (value != null && this.titles.contains(Strings.toString(value))) {
+                    projection[cell.getColumnIndex()] = true;
+                }
+            }
+            this.projection = projection;
+        }
+
+        /**
+         * 获取下一个需要解析的表格数据输入流，未选中的表格数据流将被直接关闭
+         *
+         * @param sheets 表格数据输入流迭代器
+         * @return 表格数据输入流，没有需要解析的表格或读取数量已达到限制时返回null
+         * @throws IOException IO操作异常
+         */
+        private InputStream next(XSSFReader.SheetIterator sheets) throws IOException {
+            while (this.count < this.limit && sheets.hasNext()) {
+                InputStream input = sheets.next();
+                int sheet = this.sheet++;
+                if (this.sheets == null || this.sheets.contains(sheet) || this.sheets.contains(sheets.getSheetName())) {
+                    return this.offsets == null ? input : this.offsets.open(sheet, input, this.titles == null ? this.index : this.index - 1);
+                }
+                input.close();
+            }
+            return null;
+        }
+
+        /**
+         * 加载共享字符串表，设置了内存映射缓存容量时使用内存映射共享字符串表
+         *
+         * @param reader Excel2007文件读取器
+         * @throws IOException        IO操作异常
+         * @throws SAXException       解析异常
+         * @throws OpenXML4JException 文件包操作异常
+         */
+        private void loadSharedStrings(XSSFReader reader) throws IOException, SAXException, OpenXML4JException {
+            if (this.mapping > 0) {
+                try (InputStream input = reader.getSharedStringsData()) {
+                    this.mapped = input == null ? null : new MappedSharedStrings(input, this.mapping);
+                }
+            } else {
+                this.shared = reader.getSharedStringsTable();
+            }
+        }
+
+        /**
+         * 释放内存映射共享字符串表
+         */
+        private void releaseSharedStrings() {
+            if (this.mapped != null) {
+                this.mapped.close();
+            }
+        }
+
+        /**
+         * 构建日期格式样式标识数组，解析样式表中的自定义数字格式及单元格格式，每个文件包只解析一次
+         *
+         * @return 日期格式样式标识数组（按样式下标）
+         * @throws IOException        IO操作异常
+         * @throws XMLStreamException 解析异常
+         */
+        protected boolean[] buildDateStyles() throws IOException, XMLStreamException {
+            List<PackagePart> parts = this.pkg.getPartsByContentType(XSSFRelation.STYLES.getContentType());
+            if (parts.isEmpty()) {
+                return new boolean[0];
+            }
+            Map<Integer, String> formats = new HashMap<>();
+            List<Boolean> dates = new ArrayList<>();
+            try (InputStream input = parts.get(0).getInputStream()) {
+                XMLStreamReader stream = this.buildXMLStreamReader(input);
+                try {
+                    boolean styling = false; // 是否位于单元格格式元素内
+                    while (stream.hasNext()) {
+                        int event = stream.next();
+                        if (event == XMLStreamConstants.START_ELEMENT) {
+                            String name = stream.getLocalName();
+                            if ("numFmt".equals(name)) {
+                                formats.put(Integer.parseInt(stream.getAttributeValue(null, "numFmtId")), stream.getAttributeValue(null, "formatCode"));
+                            } else if ("cellXfs".equals(name)) {
+                                styling = true;
+                            } else if (styling && "xf".equals(name)) {
+                                String id = stream.getAttributeValue(null, "numFmtId");
+                                int format = id == null ? 0 : Integer.parseInt(id);
+                                String code = formats.containsKey(format) ? formats.get(format) : BuiltinFormats.getBuiltinFormat(format);
+                                dates.add(code != null && DateUtil.isADateFormat(format, code));
+                            }
+                        } else if (event == XMLStreamConstants.END_ELEMENT && "cellXfs".equals(stream.getLocalName())) {
+                            break;
+                        }
+                    }
+                } finally {
+                    stream.close();
+                }
+            }
+            boolean[] array = new boolean[dates.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = dates.get(i);
+            }
+            return array;
+        }
+
+        /**
+         * 判断单元格样式是否为日期格式
+         *
+         * @param style 单元格样式下标属性值（未指定时为默认样式0）
+         * @return true/false
+         */
+        protected boolean isDateStyle(String style) {
+            if (this.dates == null || this.dates.length == 0) {
+                return false;
+            }
+            int index = 0;
+            if (style != null) {
+                for (int i = 0, len = style.length(); i < len; i++) {
+                    index = index * 10 + style.charAt(i) - '0';
+                }
+            }
+            return index >= 0 && index < this.dates.length && this.dates[index];
+        }
+
+        /**
+         * 设置XML解析方式
+         *
+         * @param parser XML解析方式
+         * @return Excel2007数据读取处理器
+         */
+        @Nonnull
+        public AbstractExcel2007Reader parser(Parser parser) {
+            this.parser = parser;
+            return this;
+        }
+
+        /**
+         * 构建XML数据读取处理器
+         *
+         * @return XML数据读取处理器
+         * @throws SAXException 构建异常
+         */
+        protected XMLReader buildXMLReader() throws SAXException {
+            return XMLReaderFactory.createXMLReader("org.apache.xerces.parsers.SAXParser");
+        }
+
+        /**
+         * 构建XML数据流读取器，使用StAX解析方式时调用
+         *
+         * @param input 表格数据输入流
+         * @return XML数据流读取器
+         * @throws XMLStreamException 构建异常
+         */
+        @Nonnull
+        protected XMLStreamReader buildXMLStreamReader(InputStream input) throws XMLStreamException {
+            if (this.staxFactory == null) {
+                this.staxFactory = XMLInputFactory.newInstance();
+                this.staxFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+                this.staxFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            }
+            return this.staxFactory.createXMLStreamReader(input);
+        }
+
+        /**
+         * 判断是否跳过XML元素及其子元素，使用StAX解析方式时调用，默认只解析数据相关元素
+         *
+         * @param name 元素本地名称
+         * @return true/false
+         */
+        protected boolean isSkipped(String name) {
+            return !STAX_ELEMENTS.contains(name);
+        }
+
+        /**
+         * 根据单元格标签属性解析单元格地址
+         *
+         * @param attributes 标签属性对象
+         * @return 单元格地址
+         * @deprecated 解析单元格开始标签时改为调用{@link #analyseCellColumn(Attributes)}，子类重写此方法时仍会被调用
+         */
+        @Deprecated
+        @Nonnull
+        protected CellAddress analyseCellAddress(Attributes attributes) {
+            return new CellAddress(this.number, this.parseCellColumn(attributes));
+        }
+
+        /**
+         * 根据单元格标签属性解析单元格列下标，解析单元格开始标签时调用，直接从地址字符中解码列字母，未指定地址时取上一列的下一列
+         *
+         * @param attributes 标签属性对象
+         * @return 列下标（从0开始）
+         */
+        @Nonnull
+        protected int analyseCellColumn(Attributes attributes) {
+            return this.addressing ? this.analyseCellAddress(attributes).getColumn() : this.parseCellColumn(attributes);
+        }
+
+        /**
+         * 从单元格地址属性中解码列下标
+         *
+         * @param attributes 标签属性对象
+         * @return 列下标（从0开始）
+         */
+        private int parseCellColumn(Attributes attributes) {
+            String address = attributes.getValue("r");
+            if (address == null) {
+                return this.column + 1;
+            }
+            int column = 0;
+            for (int i = 0, len = address.length(); i < len; i++) {
+                char c = address.charAt(i);
+                if (c >= 'A' && c <= 'Z') {
+                    column = column * 26 + c - 'A' + 1;
+                } else if (c >= 'a' && c <= 'z') {
+                    column = column * 26 + c - 'a' + 1;
+                } else {
+                    break;
+                }
+            }
+            if (column == 0) {
+                throw new IllegalArgumentException("Invalid cell address: " + address);
+            }
+            return column - 1;
+        }
+
+        /**
+         * 初始化单元格类型，解析单元格开始标签时调用
+         *
+         * @param cell       单元格对象
+         * @param attributes 标签属性对象
+         */
+        @Nonnull
+        protected void initializeCellType(Cell cell, Attributes attributes) {
+            String t = attributes.getValue("t");
+            this.datable = false;
+            if ((this.related = "s".equals(t)) || "inlineStr".equals(t)) {
+                cell.setCellType(CellType.STRING);
+            } else if ("b".equals(t)) {
+                cell.setCellType(CellType.BOOLEAN);
+            } else if (Strings.isEmpty(t) || "n".equals(t)) { // 只有数字单元格按样式判断是否为日期，str/e/d类型单元格始终为字符串
+                this.datable = this.isDateStyle(attributes.getValue("s"));
+                cell.setCellType(CellType.NUMERIC);
+            } else {
+                cell.setCellType(CellType.STRING);
+            }
+        }
+
+        /**
+         * 初始化单元格值
+         *
+         * @param cell  单元格对象
+         * @param value 原始值
+         * @deprecated 解析单元格值结束标签时改为调用{@link #initializeCellValue(Cell, char[], int, int)}，子类重写此方法时仍会被调用
+         */
+        @Deprecated
+        @Nonnull
+        protected void initializeCellValue(Cell cell, String value) {
+            this.assignCellValue(cell, value.toCharArray(), 0, value.length());
+        }
+
+        /**
+         * 初始化单元格值，解析单元格值结束标签时调用，原始值字符缓冲区在解析过程中复用，不能被保留
+         *
+         * @param cell   单元格对象
+         * @param value  原始值字符缓冲区
+         * @param start  原始值开始位置
+         * @param length 原始值长度
+         */
+        @Nonnull
+        protected void initializeCellValue(Cell cell, char[] value, int start, int length) {
+            if (this.valuing) {
+                this.initializeCellValue(cell, new String(value, start, length));
+            } else {
+                this.assignCellValue(cell, value, start, length);
+            }
+        }
+
+        /**
+         * 将原始值转换为单元格值
+         *
+         * @param cell   单元格对象
+         * @param value  原始值字符缓冲区
+         * @param start  原始值开始位置
+         * @param length 原始值长度
+         */
+        private void assignCellValue(Cell cell, char[] value, int start, int length) {
+            if (this.related) { // 如果为字符串，则从共享关联表中取数据
+                int idx = parseInteger(value, start, length);
+                cell.setCellValue(this.mapped == null ? this.shared.getItemAt(idx).getString() : this.mapped.getString(idx));
+            } else if (cell.getCellType() == CellType.BOOLEAN) {
+                cell.setCellValue(parseInteger(value, start, length) > 0);
+            } else if (cell.getCellType() == CellType.NUMERIC) {
+                double number = parseNumber(value, start, length);
+                if (!this.datable) {
+                    cell.setCellValue(number);
+                } else if (cell instanceof XMLCell) {
+                    ((XMLCell) cell).setDateValue(number);
+                } else {
+                    cell.setCellValue(HSSFDateUtil.getJavaDate(number));
+                }
+            } else {
+                cell.setCellValue(new String(value, start, length));
+            }
+        }
+
+        /**
+         * Excel读操作
+         *
+         * @return 数据行总数
+         */
+        public int process() {
+            try {
+                XSSFReader reader = new XSSFReader(this.pkg);
+                this.loadSharedStrings(reader);
+                this.dates = this.buildDateStyles();
+                XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+                this.sheet = 0;
+                if (this.executor == null) {
+                    for (InputStream input; (input = this.next(sheets)) != null; ) {
+                        try (InputStream sheet = input) {
+                            this.parse(sheet);
+                        }
+                    }
+                } else {
+                    List<InputStream> inputs = new LinkedList<>();
+                    for (InputStream input; (input = this.next(sheets)) != null; ) {
+                        inputs.add(input);
+                    }
+                    this.parallel(inputs);
+                }
+            } catch (IOException | SAXException | XMLStreamException | OpenXML4JException e) {
+                throw new RuntimeException(e);
+            } finally {
+                this.releaseSharedStrings();
+            }
+            return this.count;
+        }
+
+        /**
+         * 解析单个表格数据
+         *
+         * @param sheet 表格数据输入流
+         * @throws IOException  IO操作异常
+         * @throws SAXException 解析异常
+         */
+        @Nonnull
+        protected void parse(InputStream sheet) throws IOException, SAXException {
+            try {
+                if (this.parser == Parser.STAX) {
+                    try {
+                        XMLStreamReader reader = this.buildXMLStreamReader(sheet);
+                        try {
+                            this.parse(reader);
+                        } finally {
+                            reader.close();
+                        }
+                    } catch (XMLStreamException e) {
+                        throw new SAXException(e);
+                    }
+                    return;
+                }
+                if (this.saxParser == null) {
+                    this.saxParser = this.buildXMLReader();
+                    this.saxParser.setContentHandler(this);
+                }
+                this.saxParser.parse(new InputSource(sheet));
+            } catch (Termination e) { // 读取数量已达到限制，结束当前表格解析
+            }
+        }
+
+        /**
+         * 以StAX拉模式解析表格数据，将解析事件转换为SAX处理方法调用，跳过不需要的元素
+         *
+         * @param reader XML数据流读取器
+         * @throws XMLStreamException 解析异常
+         * @throws SAXException       处理异常
+         */
+        private void parse(XMLStreamReader reader) throws XMLStreamException, SAXException {
+            Attributes attributes = new StreamAttributes(reader);
+            this.startDocument();
+            while (this.next(reader, attributes)) ;
+            this.endDocument();
+        }
+
+        /**
+         * 处理下一个StAX解析事件
+         *
+         * @param reader     XML数据流读取器
+         * @param attributes 当前元素属性适配对象
+         * @return 是否还有后续事件
+         * @throws XMLStreamException 解析异常
+         * @throws SAXException       处理异常
+         */
+        private boolean next(XMLStreamReader reader, Attributes attributes) throws XMLStreamException, SAXException {
+            if (!reader.hasNext()) {
+                return false;
+            }
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                if (this.isSkipped(name)) {
+                    skip(reader);
+                } else {
+                    this.startElement(reader.getNamespaceURI(), name, name, attributes);
+                    if (this.ignored && "c".equals(name)) { // 跳过投影列以外的单元格
+                        skip(reader);
+                    }
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                String name = reader.getLocalName();
+                this.endElement(reader.getNamespaceURI(), name, name);
+            } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                this.characters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+            }
+            return true;
+        }
+
+        /**
+         * 跳过当前元素及其子元素
+         *
+         * @param reader XML数据流读取器
+         * @throws XMLStreamException 解析异常
+         */
+        private static void skip(XMLStreamReader reader) throws XMLStreamException {
+            for (int depth = 1; depth > 0; ) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+            }
+        }
+
+        /**
+         * 构建拉模式数据行迭代器，迭代器使用StAX解析方式并只能使用一次，迭代返回的数据行为独立副本
+         *
+         * @return 数据行迭代器
+         */
+        public Excel2007Iterator iterator() {
+            return new Excel2007Iterator(this);
+        }
+
+        /**
+         * 构建延迟计算的数据行流，流关闭或数据读取完成时释放解析资源
+         *
+         * @return 数据行流
+         */
+        public Stream<Row> stream() {
+            return this.iterator().stream();
+        }
+
+        /**
+         * 并行解析表格数据，每个表格的数据行通过有界队列转交到调用线程，有序模式下每个表格使用独立队列并按表格顺序消费
+         *
+         * @param sheets 表格数据输入流列表
+         */
+        private void parallel(List<InputStream> sheets) {
+            int size = sheets.size();
+            List<BlockingQueue<Object>> queues = new ArrayList<>(size);
+            if (this.ordered) {
+                for (int i = 0; i < size; i++) {
+                    queues.add(new ArrayBlockingQueue<>(DEFAULT_QUEUE_CAPACITY));
+                }
+            } else {
+                queues.add(new ArrayBlockingQueue<>(DEFAULT_QUEUE_CAPACITY));
+            }
+            this.closed = false;
+            this.consumer = Thread.currentThread();
+            Iterator<InputStream> iterator = sheets.iterator();
+            try {
+                for (int i = 0; iterator.hasNext(); i++) {
+                    InputStream sheet = iterator.next();
+                    BlockingQueue<Object> queue = queues.get(this.ordered ? i : 0);
+                    this.executor.execute(() -> {
+                        try (InputStream input = sheet) {
+                            if (!this.closed) {
+                                AbstractExcel2007Reader reader = this.fork((row, count) -> this.transfer(queue, copy(row)));
+                                reader.shared = this.shared;
+                                reader.mapped = this.mapped;
+                                reader.dates = this.dates;
+                                reader.parser = this.parser;
+                                reader.titles = this.titles;
+                                reader.projection = this.projection;
+                                reader.recycling = true; // 数据行转交前已拷贝
+                                reader.parse(input);
+                            }
+                            this.transfer(queue, queue); // 以队列本身作为表格解析结束标记
+                        } catch (Throwable e) {
+                            if (!this.closed) {
+                                this.transfer(queue, e);
+                            }
+                        }
+                    });
+                }
+                for (int finished = 0, current = 0; finished < size; ) {
+                    Object item = queues.get(current).take();
+                    if (item instanceof Row) {
+                        if (this.skipped < this.offset) {
+                            this.skipped++;
+                        } else if (this.count < this.limit) {
+                            this.read((Row) item, ++this.count);
+                        }
+                        if (this.count >= this.limit) {
+                            break;
+                        }
+                    } else if (item instanceof Throwable) {
+                        throw item instanceof RuntimeException ? (RuntimeException) item : new RuntimeException((Throwable) item);
+                    } else if (++finished < size && this.ordered) { // 当前表格解析完成
+                        current++;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } finally {
+                this.closed = true;
+                while (iterator.hasNext()) { // 关闭未提交解析的表格数据流
+                    try {
+                        iterator.next().close();
+                    } catch (IOException e) {
+                    }
+                }
+            }
+        }
+
+        /**
+         * 将并行解析结果转交到队列，解析关闭后终止当前解析；解析任务在调用线程中同步执行时队列已满将无法被消费，直接抛出异常
+         *
+         * @param queue 转交队列
+         * @param item  转交对象（数据行、异常或结束标记）
+         */
+        private void transfer(BlockingQueue<Object> queue, Object item) {
+            try {
+                while (!queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+                    if (this.closed) {
+                        throw new CancellationException("Excel parsing has been closed");
+                    } else if (Thread.currentThread() == this.consumer) {
+                        throw new IllegalStateException("Parallel parsing tasks must be executed asynchronously");
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public void startDocument() throws SAXException {
+            this.row = null;
+            this.number = -1;
+            if (this.titles != null) { // 按标题投影时在解析到标题行之前不读取任何列
+                this.projection = new boolean[0];
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) throws SAXException {
+            if (this.row != null && !this.ignored) {
+                int size = this.length + length;
+                if (size > this.value.length) {
+                    this.value = Arrays.copyOf(this.value, Math.max(size, this.value.length * 2));
+                }
+                System.arraycopy(ch, start, this.value, this.length, length);
+                this.length = size;
+            }
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String name, Attributes attributes) throws SAXException {
+            if ("row".equals(name)) { // 行开始标签
+                if (this.count >= this.limit) {
+                    throw new Termination();
+                }
+                this.row = null; // 清空当前行
+                this.ignored = false;
+                String r = attributes.getValue("r");
+                this.number = r == null ? this.number + 1 : parseInteger(r) - 1; // 当前行下标
+                this.heading = this.titles != null && this.number == this.index - 1;
+                if (this.number >= this.index || this.heading) {
+                    this.row = this.buildRow();
+                    this.row.setRowNum(this.number);
+                    this.column = -1;
+                }
+            } else if (this.row != null) {
+                this.length = 0; // 清空过程数据
+                if ("c".equals(name)) { // 单元格开始标签
+                    // 解析单元格所在列下标
+                    this.column = this.analyseCellColumn(attributes);
+                    this.ignored = this.projection != null && !this.heading
+                            && (this.column >= this.projection.length || !this.projection[this.column]);
+                    if (!this.ignored) {
+                        // 构建单元格并初始化单元格值类型
+                        this.cell = this.buildCell(this.row, this.column);
+                        this.initializeCellType(this.cell, attributes);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String name) throws SAXException {
+            if (this.row != null) {
+                if ("row".equals(name)) { // 行解析完成
+                    if (this.heading) {
+                        this.project(this.row);
+                        this.heading = false;
+                    } else if (isEmpty(this.row)) {
+                        this.row = null;
+                    } else if (this.skipped < this.offset) {
+                        this.skipped++;
+                    } else if (this.pulling) { // 拉模式下由迭代器获取数据行
+                        this.pending = this.row;
+                        this.count++;
+                    } else {
+                        this.read(this.row, ++this.count);
+                    }
+                    this.row = null;
+                } else if (!this.ignored && this.length > 0 && ("v".equals(name) || "t".equals(name))) { // 值解析完成
+                    this.initializeCellValue(this.cell, this.value, 0, this.length);
+                }
+            }
+        }
+    }
+
+    /**
+     * Excel2007数据读取处理器，将数据行转交给指定的读接口
+     */
+    public static class Excel2007Reader extends AbstractExcel2007Reader {
+        protected final Reader reader; // Excel读接口
+
+        public Excel2007Reader(OPCPackage pkg, Reader reader) {
+            this(pkg, 0, reader);
+        }
+
+        @Nonnull
+        public Excel2007Reader(OPCPackage pkg, int index, Reader reader) {
+            super(pkg, index);
+            this.reader = reader;
+        }
+
+        /**
+         * 构建表格并行解析处理器，子类重写了解析过程中的构建/初始化方法时需同时重写此方法，否则不支持并行解析
+         *
+         * @param reader 数据行转交接口
+         * @return Excel2007数据读取处理器
+         */
+        @Override
+        protected AbstractExcel2007Reader fork(Reader reader) {
+            if (this.getClass() != Excel2007Reader.class) {
+                return super.fork(reader);
+            }
+            return new Excel2007Reader(this.pkg, super.index, reader);
+        }
+
+        @Override
+        public void read(Row row, int count) {
+            this.reader.read(row, count);
+        }
+    }
+
+    /**
+     * Excel2007拉模式数据行迭代器，每次获取数据行时才继续解析，无需额外线程及缓冲
+     */
+    public static class Excel2007Iterator implements Iterator<Row>, Closeable {
+        private Row row; // 已解析待返回的数据行
+        private boolean closed; // 是否已关闭
+        private InputStream input; // 当前表格数据输入流
+        private XMLStreamReader stream; // 当前表格数据流读取器
+        private Attributes attributes; // 当前元素属性适配对象
+        private XSSFReader.SheetIterator sheets; // 表格数据输入流迭代器
+        protected final AbstractExcel2007Reader reader; // Excel2007数据读取处理器
+
+        public Excel2007Iterator(OPCPackage pkg) {
+            this(pkg, 0);
+        }
+
+        public Excel2007Iterator(OPCPackage pkg, int index) {
+            this(new AbstractExcel2007Reader(pkg, index) {
+                @Override
+                public void read(Row row, int count) {
+                }
+            });
+        }
+
+        @Nonnull
+        public Excel2007Iterator(AbstractExcel2007Reader reader) {
+            this.reader = reader;
+            this.reader.pulling = true;
+            this.reader.recycling = true; // 数据行返回前已拷贝
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.row != null) {
+                return true;
+            } else if (this.closed) {
+                return false;
+            }
+            try {
+                if (this.sheets == null) {
+                    XSSFReader reader = new XSSFReader(this.reader.pkg);
+                    this.reader.loadSharedStrings(reader);
+                    this.reader.dates = this.reader.buildDateStyles();
+                    this.sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+                    this.reader.sheet = 0;
+                }
+                while (this.reader.pending == null) {
+                    if (this.reader.count >= this.reader.limit) { // 读取数量已达到限制
+                        this.close();
+                        return false;
+                    } else if (this.stream == null) {
+                        if ((this.input = this.reader.next(this.sheets)) == null) {
+                            this.close();
+                            return false;
+                        }
+                        this.stream = this.reader.buildXMLStreamReader(this.input);
+                        this.attributes = new StreamAttributes(this.stream);
+                        this.reader.startDocument();
+                    } else if (!this.reader.next(this.stream, this.attributes)) {
+                        this.reader.endDocument();
+                        this.release();
+                    }
+                }
+            } catch (IOException | SAXException | XMLStreamException | OpenXML4JException e) {
+                this.close();
+                throw new RuntimeException(e);
+            }
+            this.row = copy(this.reader.pending);
+            this.reader.pending = null;
+            return true;
+        }
+
+        @Override
+        public Row next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Row row = this.row;
+            this.row = null;
+            return row;
+        }
+
+        /**
+         * 将迭代器转换成延迟计算的数据行流，流关闭时关闭迭代器
+         *
+         * @return 数据行流
+         */
+        public Stream<Row> stream() {
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(this::close);
+        }
+
+        /**
+         * 释放当前表格解析资源
+         */
+        private void release() {
+            try {
+                if (this.stream != null) {
+                    this.stream.close();
+                }
+                if (this.input != null) {
+                    this.input.close();
+                }
+            } catch (IOException | XMLStreamException e) {
+            } finally {
+                this.stream = null;
+                this.input = null;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!this.closed) {
+                this.closed = true;
+                this.release();
+                while (this.sheets != null && this.sheets.hasNext()) { // 关闭未解析的表格数据流
+                    try {
+                        this.sheets.next().close();
+                    } catch (IOException e) {
+                    }
+                }
+                this.reader.releaseSharedStrings();
+            }
+        }
+    }
+
+    /**
+     * Excel2007数据行记录器
+     */
+    public static class Excel2007Counter extends AbstractExcel2007Reader {
+        public Excel2007Counter(OPCPackage pkg) {
+            super(pkg);
+        }
+
+        public Excel2007Counter(OPCPackage pkg, int index) {
+            super(pkg, index);
+        }
+
+        @Override
+        protected void initializeCellType(Cell cell, Attributes attributes) {
+            cell.setCellType(CellType.NUMERIC);
+        }
+
+        @Override
+        protected void initializeCellValue(Cell cell, char[] value, int start, int length) {
+            CellType type = cell.getCellType();
+            if (!(type == CellType.BLANK || type == CellType.STRING) || (type == CellType.STRING && !isBlank(value, start, length))) {
+                cell.setCellValue(1); // 设置1表示此单元格值不为空
+            }
+        }
+
+        /**
+         * 构建表格并行解析处理器，子类重写了解析过程中的构建/初始化方法时需同时重写此方法，否则不支持并行解析
+         *
+         * @param reader 数据行转交接口
+         * @return Excel2007数据读取处理器
+         */
+        @Override
+        protected AbstractExcel2007Reader fork(Reader reader) {
+            if (this.getClass() != Excel2007Counter.class) {
+                return super.fork(reader);
+            }
+            return new Excel2007Counter(this.pkg, super.index) {
+                @Override
+                public void read(Row row, int count) {
+                    reader.read(row, count);
+                }
+            };
+        }
+
+        @Override
+        public void read(Row row, int count) {
+        }
+    }
+
+    /**
+     * Excel2007数据行快速记录器，按字节扫描表格XML统计数据行，不构建行及单元格对象，也不加载共享字符串表
+     */
+    public static class Excel2007Scanner {
+        private int length; // 缓冲区有效数据长度
+        private int position; // 缓冲区当前位置
+        private boolean empty; // 最近扫描的标签是否为空标签
+        private boolean dimensional; // 是否优先使用表格维度信息统计
+        private InputStream input; // 当前表格数据输入流
+        private final byte[] name = new byte[16]; // 当前标签名称缓冲区
+        private final byte[] buffer = new byte[Streams.DEFAULT_BUFFER_SIZE * 32]; // 字节缓冲区
+        protected final int index; // 开始行下标
+        protected final OPCPackage pkg; // 文件包
+
+        public Excel2007Scanner(OPCPackage pkg) {
+            this(pkg, 0);
+        }
+
+        @Nonnull
+        public Excel2007Scanner(OPCPackage pkg, @Min(0) int index) {
+            this.pkg = pkg;
+            this.index = index;
+        }
+
+        /**
+         * 设置是否优先使用表格维度信息（dimension）统计，表格包含有效维度信息时不再扫描数据行，统计结果包含维度范围内的空行
+         *
+         * @param dimensional 是否使用维度信息
+         * @return Excel2007数据行快速记录器
+         */
+        public Excel2007Scanner dimensional(boolean dimensional) {
+            this.dimensional = dimensional;
+            return this;
+        }
+
+        /**
+         * 统计数据行
+         *
+         * @return 数据行总数
+         */
+        public int process() {
+            int count = 0;
+            try {
+                Iterator<InputStream> sheets = new XSSFReader(this.pkg).getSheetsData();
+                while (sheets.hasNext()) {
+                    try (InputStream input = sheets.next()) {
+                        this.input = input;
+                        this.length = this.position = 0;
+                        count += this.scan();
+                    }
+                }
+            } catch (IOException | OpenXML4JException e) {
+                throw new RuntimeException(e);
+            } finally {
+                this.input = null;
+            }
+            return count;
+        }
+
+        /**
+         * 扫描单个表格数据，行内存在非空的值标签（v/t）时才视为数据行，一旦确定非空则不再检查该行剩余的值
+         *
+         * @return 数据行数
+         * @throws IOException IO操作异常
+         */
+        private int scan() throws IOException {
+            int count = 0, number = -1;
+            boolean counting = false; // 当前行是否需要统计
+            boolean valued = false; // 当前行是否存在值
+            boolean texting = false; // 是否位于待检查的值标签内
+            for (int b = this.read(); b >= 0; b = this.read()) {
+                if (b != '<') {
+                    if (texting) {
+                        valued = true;
+                        texting = false;
+                    }
+                    continue;
+                }
+                b = this.read();
+                if (b == '!' || b == '?') {
+                    if (this.skipMarkup(b) && texting) { // 值标签内非空的CDATA
+                        valued = true;
+                        texting = false;
+                    }
+                    continue;
+                }
+                boolean closing = b == '/';
+                if (closing) {
+                    b = this.read();
+                }
+                int size = 0;
+                for (; b > ' ' && b != '>' && b != '/'; b = this.read()) {
+                    if (b == ':') { // 忽略命名空间前缀
+                        size = 0;
+                    } else if (size < this.name.length) {
+                        this.name[size++] = (byte) b;
+                    } else {
+                        size = this.name.length + 1;
+                    }
+                }
+                if (closing) {
+                    this.finishTag(b, null);
+                    texting = false;
+                    if (this.matches(size, "row")) {
+                        if (counting && valued) {
+                            count++;
+                        }
+                        counting = false;
+                    } else if (this.matches(size, "sheetData")) {
+                        break;
+                    }
+                } else if (this.matches(size, "row")) {
+                    String r = this.finishTag(b, "r");
+                    number = r == null ? number + 1 : parseInteger(r) - 1;
+                    counting = !this.empty && number >= this.index;
+                    valued = texting = false;
+                } else if (this.dimensional && this.matches(size, "dimension")) {
+                    String ref = this.finishTag(b, "ref");
+                    int split = ref == null ? -1 : ref.indexOf(':');
+                    if (split > 0) { // 单个单元格的维度信息（如SXSSF写入的A1）不可靠，继续扫描数据行
+                        int first = new CellAddress(ref.substring(0, split)).getRow();
+                        int last = new CellAddress(ref.substring(split + 1)).getRow();
+                        return Math.max(last - Math.max(first, this.index) + 1, 0);
+                    }
+                } else {
+                    boolean value = counting && !valued && (this.matches(size, "v") || this.matches(size, "t"));
+                    this.finishTag(b, null);
+                    texting = value && !this.empty;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * 读取下一个字节
+         *
+         * @return 字节值（0～255），到达结尾时返回-1
+         * @throws IOException IO操作异常
+         */
+        private int read() throws IOException {
+            if (this.position == this.length) {
+                this.position = 0;
+                if ((this.length = this.input.read(this.buffer, 0, this.buffer.length)) < 1) {
+                    this.length = 0;
+                    return -1;
+                }
+            }
+            return this.buffer[this.position++] & 0xFF;
+        }
+
+        /**
+         * 判断当前标签名称是否与目标名称相同
+         *
+         * @param size   当前标签名称长度
+         * @param target 目标名称
+         * @return true/false
+         */
+        private boolean matches(int size, String target) {
+            if (size != target.length()) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                if (this.name[i] != target.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 读取标签剩余部分直到标签结束，并记录是否为空标签（属性名称解析时复用标签名称缓冲区）
+         *
+         * @param b         当前字节
+         * @param attribute 需要获取的属性名称（ASCII）
+         * @return 属性值
+         * @throws IOException IO操作异常
+         */
+        private String finishTag(int b, String attribute) throws IOException {
+            int size = 0; // 当前属性名称长度
+            String value = null;
+            boolean matched = false;
+            this.empty = false;
+            for (; b >= 0 && b != '>'; b = this.read()) {
+                if (b == '"' || b == '\'') {
+                    int quote = b;
+                    StringBuilder builder = matched ? new StringBuilder() : null;
+                    while ((b = this.read()) >= 0 && b != quote) {
+                        if (builder != null) {
+                            builder.append((char) b);
+                        }
+                    }
+                    if (builder != null) {
+                        value = builder.toString();
+                    }
+                    matched = false;
+                    size = 0;
+                } else if (b == '=') {
+                    matched = attribute != null && this.matches(size, attribute);
+                } else if (b > ' ' && b != '/') {
+                    if (size < this.name.length) {
+                        this.name[size++] = (byte) b;
+                    } else {
+                        size = this.name.length + 1;
+                    }
+                }
+                this.empty = b == '/';
+            }
+            return value;
+        }
+
+        /**
+         * 跳过注释、CDATA、处理指令及文档类型声明
+         *
+         * @param b 标签起始字符（!或?）
+         * @return 是否为非空的CDATA
+         * @throws IOException IO操作异常
+         */
+        private boolean skipMarkup(int b) throws IOException {
+            String end = ">";
+            if (b == '?') {
+                end = "?>";
+            } else if ((b = this.read()) == '-') {
+                end = "-->";
+            } else if (b == '[') {
+                end = "]]>";
+            }
+            int length = 0, p1 = -1, p2 = -1; // 已读取长度及前两个字节
+            while ((b = this.read()) >= 0) {
+                length++;
+                if (b == '>' && (end.length() < 2 || p1 == end.charAt(end.length() - 2)) && (end.length() < 3 || p2 == end.charAt(0))) {
+                    break;
+                }
+                p2 = p1;
+                p1 = b;
+            }
+            return end.equals("]]>") && length > "CDATA[]]>".length();
+        }
+    }
+
+    /**
+     * Excel2007数据直接写入器，不构建POI工作薄对象也不使用临时文件，表格XML（内联字符串）及最少的样式、工作薄部件直接以ZIP格式写入输出流，
+     * 单元格样式及表格名称以外的工作薄属性不会被写入
+     */
+    public static class Excel2007Writer implements Closeable {
+        /**
+         * XML声明
+         */
+        private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+
+        /**
+         * 电子表格XML命名空间
+         */
+        private static final String NAMESPACE = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+
+        /**
+         * 关系XML命名空间
+         */
+        private static final String RELATIONSHIP = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+        /**
+         * 日期单元格样式下标
+         */
+        private static final String DATE_STYLE = "1";
+
+        /**
+         * 标题单元格样式下标
+         */
+        private static final String TITLE_STYLE = "2";
+
+        private int number; // 当前表格行下标
+        private int count; // 写入数量
+        private boolean closed; // 是否已关闭
+        private boolean writing; // 当前表格是否正在写入
+        private int volume = DEFAULT_SHEET_VOLUME; // 表格容量
+        private String[] titles = Strings.EMPTY_ARRAY; // 表格标题数组
+        private String[] letters = new String[16]; // 列字母缓存
+        private final XMLRow row = new XMLRow(); // 复用数据行
+        private final List<String> names = new ArrayList<>(); // 表格名称列表
+        private final ZipOutputStream zip; // ZIP输出流（只渲染表格XML时为空）
+        private final BufferedWriter xml; // XML字符输出流
+
+        /**
+         * 构建只渲染表格XML的写入器，用于并行渲染表格
+         *
+         * @param output 表格XML输出流
+         */
+        private Excel2007Writer(ByteArrayOutputStream output) {
+            this.zip = null;
+            this.xml = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), Streams.DEFAULT_BUFFER_SIZE * 32);
+        }
+
+        @Nonnull
+        public Excel2007Writer(OutputStream output) {
+            this.zip = new ZipOutputStream(new FilterOutputStream(output) { // 关闭时只刷新，不关闭调用方的输出流
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    this.out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    this.flush();
+                }
+            });
+            this.xml = new BufferedWriter(new OutputStreamWriter(this.zip, StandardCharsets.UTF_8), Streams.DEFAULT_BUFFER_SIZE * 32);
+        }
+
+        /**
+         * 设置表格标题，每个表格的第一行写入标题
+         *
+         * @param titles 标题数组
+         * @return Excel2007数据直接写入器
+         */
+        @Nonnull
+        public Excel2007Writer titles(String... titles) {
+            this.titles = titles;
+            return this;
+        }
+
+        /**
+         * 设置表格容量（包含标题行），超过容量时自动创建新表格
+         *
+         * @param volume 表格容量
+         * @return Excel2007数据直接写入器
+         */
+        public Excel2007Writer volume(@Min(1) int volume) {
+            this.volume = volume;
+            return this;
+        }
+
+        /**
+         * 创建新表格，结束当前表格的写入并写入标题行
+         *
+         * @param name 表格名称，为空时使用默认名称
+         * @throws IOException IO操作异常
+         */
+        public void createSheet(String name) throws IOException {
+            if (this.closed) {
+                throw new IllegalStateException("Excel writer has been closed");
+            }
+            if (Strings.isEmpty(name)) {
+                name = "Sheet" + (this.names.size() + 1);
+            } else {
+                WorkbookUtil.validateSheetName(name);
+            }
+            this.finishSheet();
+            this.names.add(name);
+            this.zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + this.names.size() + ".xml"));
+            this.startSheet();
+        }
+
+        /**
+         * 写入表格XML开始部分及标题行
+         *
+         * @throws IOException IO操作异常
+         */
+        private void startSheet() throws IOException {
+            this.xml.write(XML_DECLARATION);
+            this.xml.write("<worksheet xmlns=\"" + NAMESPACE + "\"><sheetData>");
+            this.writing = true;
+            this.number = 0;
+            if (this.titles.length > 0) {
+                this.xml.write("<row r=\"1\">");
+                for (int i = 0; i < this.titles.length; i++) {
+                    if (!Strings.isEmpty(this.titles[i])) {
+                        this.writeCell(0, i, TITLE_STYLE, this.titles[i]);
+                    }
+                }
+                this.xml.write("</row>");
+                this.number = 1;
+            }
+        }
+
+        /**
+         * 写入数据行，单元格按数据行中的顺序写入，行下标由写入器按顺序分配
+         *
+         * @param row 数据行
+         * @throws IOException IO操作异常
+         */
+        @Nonnull
+        public void write(Row row) throws IOException {
+            this.writeRow(this.next(), row);
+        }
+
+        /**
+         * 将对象实例逐个写入，对象实例通过复用的数据行转换
+         *
+         * @param <M>     数据类型
+         * @param objects 对象实例迭代器
+         * @param writer  Excel对象实例写入接口
+         * @return 写入数量
+         * @throws IOException IO操作异常
+         */
+        @Nonnull
+        public <M> int write(Iterator<M> objects, Writer<M> writer) throws IOException {
+            int count = 0;
+            while (objects.hasNext()) {
+                M object = objects.next();
+                int number = this.next();
+                this.row.clear();
+                this.row.setRowNum(number);
+                writer.write(this.row, object, ++this.count);
+                this.writeRow(number, this.row);
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * 写入数据行
+         *
+         * @param number 行下标
+         * @param row    数据行
+         * @throws IOException IO操作异常
+         */
+        private void writeRow(int number, Row row) throws IOException {
+            this.xml.write("<row r=\"");
+            this.xml.write(Integer.toString(number + 1));
+            this.xml.write("\">");
+            if (row instanceof XMLRow) {
+                XMLRow xmlRow = (XMLRow) row;
+                for (int i = 0; i < xmlRow.size; i++) {
+                    this.writeCell(number, xmlRow.cells[xmlRow.columns[i]]);
+                }
+            } else {
+                for (Cell cell : row) {
+                    this.writeCell(number, cell);
+                }
+            }
+            this.xml.write("</row>");
+        }
+
+        /**
+         * 将对象实例列表按表格容量分区，每个分区的表格XML在执行器中并行渲染，渲染结果按分区顺序组装到工作薄中，
+         * 同时渲染的表格数量不超过并行数，写入接口会被多个线程同时调用
+         *
+         * @param <M>         数据类型
+         * @param objects     对象实例列表
+         * @param executor    渲染任务执行器
+         * @param parallelism 并行数
+         * @param writer      Excel对象实例写入接口（需线程安全）
+         * @return 写入数量
+         * @throws IOException IO操作异常
+         */
+        @Nonnull
+        public <M> int write(List<M> objects, Executor executor, @Min(1) int parallelism, Writer<M> writer) throws IOException {
+            int size = Math.max(this.volume - (this.titles.length > 0 ? 1 : 0), 1); // 每个表格的数据行数
+            int sheets = (objects.size() + size - 1) / size, base = this.count;
+            LinkedList<CompletableFuture<ByteArrayOutputStream>> futures = new LinkedList<>();
+            try {
+                for (int i = 0, submitted = 0; i < sheets; i++) {
+                    for (; submitted < sheets && futures.size() < parallelism; submitted++) {
+                        int start = submitted * size, end = Math.min(start + size, objects.size());
+                        futures.add(CompletableFuture.supplyAsync(() -> this.render(objects.subList(start, end), base + start, writer), executor));
+                    }
+                    ByteArrayOutputStream content;
+                    try {
+                        content = futures.removeFirst().join();
+                    } catch (CompletionException e) {
+                        Throwable cause = e.getCause();
+                        throw cause instanceof RuntimeException ? (RuntimeException) cause : new RuntimeException(cause);
+                    }
+                    this.finishSheet();
+                    this.names.add("Sheet" + (this.names.size() + 1));
+                    this.zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + this.names.size() + ".xml"));
+                    content.writeTo(this.zip);
+                    this.zip.closeEntry();
+                }
+            } finally {
+                for (CompletableFuture<ByteArrayOutputStream> future : futures) { // 取消未完成的渲染任务
+                    future.cancel(false);
+                }
+            }
+            this.count += objects.size();
+            return objects.size();
+        }
+
+        /**
+         * 渲染单个表格XML
+         *
+         * @param <M>     数据类型
+         * @param objects 表格对象实例列表
+         * @param offset  第一个对象实例之前的写入数量
+         * @param writer  Excel对象实例写入接口
+         * @return 表格XML数据
+         */
+        private <M> ByteArrayOutputStream render(List<M> objects, int offset, Writer<M> writer) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream(objects.size() * 128 + 256);
+            Excel2007Writer renderer = new Excel2007Writer(output);
+            renderer.titles = this.titles;
+            renderer.volume = Integer.MAX_VALUE;
+            renderer.count = offset;
+            try {
+                renderer.startSheet();
+                renderer.write(objects.iterator(), writer);
+                renderer.finishSheet();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            return output;
+        }
+
+        /**
+         * 获取下一行下标，当前表格已满时创建新表格
+         *
+         * @return 行下标
+         * @throws IOException IO操作异常
+         */
+        private int next() throws IOException {
+            if (!this.writing || this.number >= this.volume) {
+                this.createSheet(null);
+            }
+            return this.number++;
+        }
+
+        /**
+         * 写入单元格
+         *
+         * @param number 行下标
+         * @param cell   单元格对象
+         * @throws IOException IO操作异常
+         */
+        private void writeCell(int number, Cell cell) throws IOException {
+            if (cell instanceof XMLCell) {
+                XMLCell xmlCell = (XMLCell) cell;
+                if (xmlCell.formula != null) {
+                    this.writeFormula(number, cell.getColumnIndex(), xmlCell.formula);
+                } else if (xmlCell.numeric && !xmlCell.datable) {
+                    this.writeCell(number, cell.getColumnIndex(), null, xmlCell.number);
+                } else {
+                    this.writeCell(number, cell.getColumnIndex(), null, xmlCell.getObjectValue());
+                }
+                return;
+            }
+            CellType type = cell.getCellType();
+            if (type == CellType.FORMULA) {
+                this.writeFormula(number, cell.getColumnIndex(), cell.getCellFormula());
+            } else if (type == CellType.NUMERIC) {
+                this.writeCell(number, cell.getColumnIndex(), null, HSSFDateUtil.isCellDateFormatted(cell) ?
+                        cell.getDateCellValue() : (Object) cell.getNumericCellValue());
+            } else if (type == CellType.BOOLEAN) {
+                this.writeCell(number, cell.getColumnIndex(), null, cell.getBooleanCellValue());
+            } else if (type == CellType.STRING) {
+                this.writeCell(number, cell.getColumnIndex(), null, cell.getStringCellValue());
+            } else if (type == CellType.ERROR) {
+                this.writeCell(number, cell.getColumnIndex(), null, FormulaError.forInt(cell.getErrorCellValue()).getString());
+            }
+        }
+
+        /**
+         * 写入单元格值
+         *
+         * @param number 行下标
+         * @param column 列下标
+         * @param style  样式下标
+         * @param value  单元格值（数字、真假、日期或字符串），空值及空字符串不写入
+         * @throws IOException IO操作异常
+         */
+        private void writeCell(int number, int column, String style, Object value) throws IOException {
+            if (value == null || Strings.EMPTY_STRING.equals(value)) {
+                return;
+            } else if (value instanceof Number) {
+                this.writeCell(number, column, style, ((Number) value).doubleValue());
+            } else if (value instanceof Date) {
+                this.startCell(number, column, DATE_STYLE, null);
+                this.xml.write("<v>");
+                this.xml.write(toString(DateUtil.getExcelDate((Date) value)));
+                this.xml.write("</v></c>");
+            } else if (value instanceof Boolean) {
+                this.startCell(number, column, style, "b");
+                this.xml.write((Boolean) value ? "<v>1</v></c>" : "<v>0</v></c>");
+            } else {
+                String text = value.toString();
+                int length = text.length();
+                this.startCell(number, column, style, "inlineStr");
+                this.xml.write(length > 0 && (text.charAt(0) <= ' ' || text.charAt(length - 1) <= ' ') ?
+                        "<is><t xml:space=\"preserve\">" : "<is><t>");
+                this.escape(text, true);
+                this.xml.write("</t></is></c>");
+            }
+        }
+
+        /**
+         * 写入数字单元格
+         *
+         * @param number 行下标
+         * @param column 列下标
+         * @param style  样式下标
+         * @param value  数字值
+         * @throws IOException IO操作异常
+         */
+        private void writeCell(int number, int column, String style, double value) throws IOException {
+            if (Double.isNaN(value) || Double.isInfinite(value)) { // Excel不支持非有限数字
+                this.writeCell(number, column, style, Double.toString(value));
+                return;
+            }
+            this.startCell(number, column, style, null);
+            this.xml.write("<v>");
+            this.xml.write(toString(value));
+            this.xml.write("</v></c>");
+        }
+
+        /**
+         * 写入公式单元格，公式结果由Excel打开时计算
+         *
+         * @param number  行下标
+         * @param column  列下标
+         * @param formula 公式
+         * @throws IOException IO操作异常
+         */
+        private void writeFormula(int number, int column, String formula) throws IOException {
+            this.startCell(number, column, null, null);
+            this.xml.write("<f>");
+            this.escape(formula);
+            this.xml.write("</f></c>");
+        }
+
+        /**
+         * 写入单元格开始标签
+         *
+         * @param number 行下标
+         * @param column 列下标
+         * @param style  样式下标
+         * @param type   单元格类型
+         * @throws IOException IO操作异常
+         */
+        private void startCell(int number, int column, String style, String type) throws IOException {
+            if (column >= this.letters.length) {
+                this.letters = Arrays.copyOf(this.letters, Math.max(column + 1, this.letters.length * 2));
+            }
+            if (this.letters[column] == null) {
+                this.letters[column] = columnAdapter(column);
+            }
+            this.xml.write("<c r=\"");
+            this.xml.write(this.letters[column]);
+            this.xml.write(Integer.toString(number + 1));
+            if (style != null) {
+                this.xml.write("\" s=\"");
+                this.xml.write(style);
+            }
+            if (type != null) {
+                this.xml.write("\" t=\"");
+                this.xml.write(type);
+            }
+            this.xml.write("\">");
+        }
+
+        /**
+         * 写入转义后的XML文本，XML不允许的控制字符按OOXML约定转换成_xHHHH_形式
+         *
+         * @param text 文本
+         * @throws IOException IO操作异常
+         */
+        private void escape(String text) throws IOException {
+            this.escape(text, false);
+        }
+
+        /**
+         * 写入转义后的XML文本，XML不允许的控制字符按OOXML约定转换成_xHHHH_形式
+         *
+         * @param text    文本
+         * @param literal 是否为单元格文本，单元格文本中原有的_xHHHH_形式字符串需将开头的下划线转换成_x005F_，避免读取时被解码
+         * @throws IOException IO操作异常
+         */
+        private void escape(String text, boolean literal) throws IOException {
+            int start = 0;
+            for (int i = 0, len = text.length(); i < len; i++) {
+                char c = text.charAt(i);
+                String replacement;
+                if (c == '<') {
+                    replacement = "&lt;";
+                } else if (c == '>') {
+                    replacement = "&gt;";
+                } else if (c == '&') {
+                    replacement = "&amp;";
+                } else if (c == '"') {
+                    replacement = "&quot;";
+                } else if (c < ' ' && c != '\t' && c != '\n' && c != '\r') {
+                    replacement = String.format("_x%04X_", (int) c);
+                } else if (literal && c == '_' && isEncoded(text, i)) {
+                    replacement = "_x005F_";
+                } else {
+                    continue;
+                }
+                this.xml.write(text, start, i - start);
+                this.xml.write(replacement);
+                start = i + 1;
+            }
+            this.xml.write(text, start, text.length() - start);
+        }
+
+        /**
+         * 判断文本指定位置是否为_xHHHH_形式的字符串
+         *
+         * @param text  文本
+         * @param index 下划线位置
+         * @return true/false
+         */
+        private static boolean isEncoded(String text, int index) {
+            if (index + 6 >= text.length() || text.charAt(index + 1) != 'x' || text.charAt(index + 6) != '_') {
+                return false;
+            }
+            for (int i = index + 2; i < index + 6; i++) {
+                if (Character.digit(text.charAt(i), 16) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 将数字转换成XML值，整数不保留小数位
+         *
+         * @param value 数字
+         * @return 数字字符串
+         */
+        private static String toString(double value) {
+            return value == (long) value && Math.abs(value) < 1e15 ? Long.toString((long) value) : Double.toString(value);
+        }
+
+        /**
+         * 结束当前表格的写入
+         *
+         * @throws IOException IO操作异常
+         */
+        private void finishSheet() throws IOException {
+            if (this.writing) {
+                this.xml.write("</sheetData></worksheet>");
+                if (this.zip == null) {
+                    this.xml.flush();
+                } else {
+                    this.closeEntry();
+                }
+                this.writing = false;
+            }
+        }
+
+        /**
+         * 写入ZIP条目
+         *
+         * @param name    条目名称
+         * @param content 条目内容
+         * @throws IOException IO操作异常
+         */
+        private void writeEntry(String name, String content) throws IOException {
+            this.zip.putNextEntry(new ZipEntry(name));
+            this.xml.write(XML_DECLARATION);
+            this.xml.write(content);
+            this.closeEntry();
+        }
+
+        /**
+         * 结束当前ZIP条目
+         *
+         * @throws IOException IO操作异常
+         */
+        private void closeEntry() throws IOException {
+            this.xml.flush();
+            this.zip.closeEntry();
+        }
+
+        /**
+         * 完成工作薄写入，写入工作薄、样式、关系及内容类型部件，不关闭调用方的输出流
+         *
+         * @throws IOException IO操作异常
+         */
+        @Override
+        public void close() throws IOException {
+            if (this.closed) {
+                return;
+            }
+            try {
+                if (this.names.isEmpty()) { // 工作薄至少包含一个表格
+                    this.createSheet(null);
+                }
+                this.finishSheet();
+                StringBuilder relationships = new StringBuilder("<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">");
+                StringBuilder types = new StringBuilder("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+                        .append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>")
+                        .append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+                        .append("<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>")
+                        .append("<Override PartName=\"/xl/styles.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>");
+                for (int i = 1, size = this.names.size(); i <= size; i++) {
+                    relationships.append("<Relationship Id=\"rId").append(i).append("\" Type=\"").append(RELATIONSHIP)
+                            .append("/worksheet\" Target=\"worksheets/sheet").append(i).append(".xml\"/>");
+                    types.append("<Override PartName=\"/xl/worksheets/sheet").append(i)
+                            .append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+                }
+                relationships.append("<Relationship Id=\"rId").append(this.names.size() + 1).append("\" Type=\"").append(RELATIONSHIP)
+                        .append("/styles\" Target=\"styles.xml\"/></Relationships>");
+                this.zip.putNextEntry(new ZipEntry("xl/workbook.xml"));
+                this.xml.write(XML_DECLARATION);
+                this.xml.write("<workbook xmlns=\"" + NAMESPACE + "\" xmlns:r=\"" + RELATIONSHIP + "\"><sheets>");
+                for (int i = 1, size = this.names.size(); i <= size; i++) {
+                    this.xml.write("<sheet name=\"");
+                    this.escape(this.names.get(i - 1));
+                    this.xml.write("\" sheetId=\"" + i + "\" r:id=\"rId" + i + "\"/>");
+                }
+                this.xml.write("</sheets></workbook>");
+                this.closeEntry();
+                this.writeEntry("xl/_rels/workbook.xml.rels", relationships.toString());
+                this.writeEntry("xl/styles.xml", "<styleSheet xmlns=\"" + NAMESPACE + "\">"
+                        + "<numFmts count=\"1\"><numFmt numFmtId=\"164\" formatCode=\"yyyy-mm-dd hh:mm:ss\"/></numFmts>"
+                        + "<fonts count=\"2\"><font><sz val=\"11\"/><name val=\"Calibri\"/></font>"
+                        + "<font><b/><sz val=\"11\"/><name val=\"Calibri\"/></font></fonts>"
+                        + "<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill><fill><patternFill patternType=\"gray125\"/></fill></fills>"
+                        + "<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>"
+                        + "<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>"
+                        + "<cellXfs count=\"3\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>"
+                        + "<xf numFmtId=\"164\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>"
+                        + "<xf numFmtId=\"0\" fontId=\"1\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyFont=\"1\"/></cellXfs>"
+                        + "<cellStyles count=\"1\"><cellStyle name=\"Normal\" xfId=\"0\" builtinId=\"0\"/></cellStyles></styleSheet>");
+                this.writeEntry("_rels/.rels", "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+                        + "<Relationship Id=\"rId1\" Type=\"" + RELATIONSHIP + "/officeDocument\" Target=\"xl/workbook.xml\"/></Relationships>");
+                this.writeEntry("[Content_Types].xml", types.append("</Types>").toString());
+            } finally {
+                this.closed = true;
+                this.zip.close();
+            }
+        }
+    }
+
+    /**
+     * 基于HSSF事件模型读取Excel2003数据，记录逐条解析后转换成复用的数据行，不会构建完整的工作薄对象
+     */
+    public static class Excel2003Reader extends AbortableHSSFListener {
+        /**
+         * 公式缓存结果类型编码（与BIFF8格式中的结果类型一致）
+         */
+        private static final int NUMERIC_RESULT = 0, STRING_RESULT = 1, BOOLEAN_RESULT = 4, ERROR_RESULT = 5;
+
+        private int count; // 读取数量
+        private int number = -1; // 当前行下标
+        private int offset; // 需要跳过的数据行数
+        private int skipped; // 已跳过的数据行数
+        private int limit = Integer.MAX_VALUE; // 最大读取数据行数
+        private XMLCell formula; // 等待字符串结果的公式单元格
+        private SSTRecord shared; // 共享字符串表
+        private final XMLRow row = new XMLRow(); // 复用数据行
+        private final FormatTrackingHSSFListener formats = new FormatTrackingHSSFListener(null); // 单元格格式跟踪器
+        protected final int index; // 开始行下标
+        protected final POIFSFileSystem fs; // 文件系统
+        protected final Reader reader; // Excel读接口
+
+        public Excel2003Reader(POIFSFileSystem fs, Reader reader) {
+            this(fs, 0, reader);
+        }
+
+        @Nonnull
+        public Excel2003Reader(POIFSFileSystem fs, @Min(0) int index, Reader reader) {
+            this.fs = fs;
+            this.index = index;
+            this.reader = reader;
+        }
+
+        /**
+         * 设置读取数据行窗口，跳过开始行下标之后的前offset个非空数据行，读取数量达到limit后结束解析
+         *
+         * @param offset 跳过的数据行数
+         * @param limit  最大读取数据行数
+         * @return Excel2003数据读取处理器
+         */
+        public Excel2003Reader window(@Min(0) int offset, @Min(1) int limit) {
+            this.offset = offset;
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * 获取单元格记录对应的单元格，行下标变化时将已解析的数据行转交给读接口
+         *
+         * @param record 单元格记录
+         * @return 单元格对象，行下标小于开始行下标时返回null
+         */
+        private XMLCell cell(CellValueRecordInterface record) {
+            if (record.getRow() != this.number) {
+                this.flush();
+                this.number = record.getRow();
+            }
+            return this.number < this.index ? null : (XMLCell) this.row.createCell(record.getColumn());
+        }
+
+        /**
+         * 设置数字单元格值，单元格格式为日期格式时转换成日期
+         *
+         * @param cell   单元格对象
+         * @param record 单元格记录
+         * @param number 数字值
+         */
+        private void number(XMLCell cell, CellValueRecordInterface record, double number) {
+            int format = this.formats.getFormatIndex(record);
+            if (DateUtil.isADateFormat(format, this.formats.getFormatString(format)) && DateUtil.isValidExcelDate(number)) {
+                cell.setDateValue(number);
+            } else {
+                cell.setCellValue(number);
+            }
+        }
+
+        /**
+         * 将当前数据行转交给读接口
+         */
+        private void flush() {
+            if (this.number >= this.index && !isEmpty(this.row)) {
+                if (this.skipped < this.offset) {
+                    this.skipped++;
+                } else {
+                    this.row.setRowNum(this.number);
+                    this.reader.read(this.row, ++this.count);
+                }
+            }
+            this.row.clear();
+            this.number = -1;
+        }
+
+        @Override
+        public short abortableProcessRecord(Record record) {
+            this.formats.processRecordInternally(record);
+            XMLCell cell;
+            switch (record.getSid()) {
+                case BOFRecord.sid:
+                    this.number = -1;
+                    break;
+                case EOFRecord.sid:
+                    this.flush();
+                    break;
+                case SSTRecord.sid:
+                    this.shared = (SSTRecord) record;
+                    break;
+                case LabelSSTRecord.sid:
+                    if ((cell = this.cell((LabelSSTRecord) record)) != null) {
+                        cell.setCellValue(this.shared.getString(((LabelSSTRecord) record).getSSTIndex()).getString());
+                    }
+                    break;
+                case LabelRecord.sid:
+                    if ((cell = this.cell((LabelRecord) record)) != null) {
+                        cell.setCellValue(((LabelRecord) record).getValue());
+                    }
+                    break;
+                case NumberRecord.sid:
+                    if ((cell = this.cell((NumberRecord) record)) != null) {
+                        this.number(cell, (NumberRecord) record, ((NumberRecord) record).getValue());
+                    }
+                    break;
+                case BoolErrRecord.sid:
+                    BoolErrRecord bool = (BoolErrRecord) record;
+                    if ((cell = this.cell(bool)) != null) {
+                        if (bool.isBoolean()) {
+                            cell.setCellValue(bool.getBooleanValue());
+                        } else {
+                            cell.setCellValue(FormulaError.forInt(bool.getErrorValue()).getString());
+                        }
+                    }
+                    break;
+                case FormulaRecord.sid: // 公式单元格读取缓存的计算结果，字符串结果在随后的StringRecord中
+                    FormulaRecord formula = (FormulaRecord) record;
+                    if ((cell = this.cell(formula)) != null) {
+                        int type = formula.getCachedResultType();
+                        if (type == NUMERIC_RESULT) {
+                            this.number(cell, formula, formula.getValue());
+                        } else if (type == BOOLEAN_RESULT) {
+                            cell.setCellValue(formula.getCachedBooleanValue());
+                        } else if (type == ERROR_RESULT) {
+                            cell.setCellValue(FormulaError.forInt(formula.getCachedErrorValue()).getString());
+                        } else if (type == STRING_RESULT && formula.hasCachedResultString()) {
+                            this.formula = cell;
+                        }
+                    }
+                    break;
+                case StringRecord.sid:
+                    if (this.formula != null) {
+                        this.formula.setCellValue(((StringRecord) record).getString());
+                        this.formula = null;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            return this.count < this.limit ? (short) 0 : (short) 1;
+        }
+
+        /**
+         * Excel读操作
+         *
+         * @return 数据行总数
+         */
+        public int process() {
+            HSSFRequest request = new HSSFRequest();
+            request.addListenerForAllRecords(this);
+            try {
+                new HSSFEventFactory().abortableProcessWorkbookEvents(request, this.fs);
+            } catch (IOException | HSSFUserException e) {
+                throw new RuntimeException(e);
+            }
+            return this.count;
+        }
+    }
+
+    /**
+     * CSV数据读取处理器，按字节切分字段并转换成数据行，文件数据通过内存映射读取，数据行在读取过程中复用，字符集必须兼容ASCII
+     */
+    public static class CsvReader {
+        private int count; // 读取数量
+        private int length; // 当前字段长度
+        private int segment; // 当前映射分段下标
+        private byte[] field = new byte[64]; // 当前字段缓冲区
+        private byte[] bytes; // 输入流读取缓冲区
+        private ByteBuffer buffer; // 当前数据缓冲区
+        private ByteBuffer[] segments; // 文件映射分段
+        private char delimiter = ','; // 字段分隔符
+        private Charset charset = StandardCharsets.UTF_8; // 字符集
+        private final XMLRow row = new XMLRow(); // 复用数据行
+        protected final int index; // 开始行下标
+        protected final File file; // CSV文件
+        protected final InputStream input; // CSV数据输入流
+        protected final Reader reader; // Excel读接口
+
+        public CsvReader(File file, Reader reader) {
+            this(file, 0, reader);
+        }
+
+        @Nonnull
+        public CsvReader(File file, @Min(0) int index, Reader reader) {
+            this.file = file;
+            this.input = null;
+            this.index = index;
+            this.reader = reader;
+        }
+
+        @Nonnull
+        public CsvReader(InputStream input, @Min(0) int index, Reader reader) {
+            this.file = null;
+            this.input = input;
+            this.index = index;
+            this.reader = reader;
         }
 
-        @Override
-        public void setCellComment(Comment comment) {
-            throw new UnsupportedOperationException();
+        /**
+         * 设置字段分隔符
+         *
+         * @param delimiter 字段分隔符（ASCII字符）
+         * @return CSV数据读取处理器
+         */
+        public CsvReader delimiter(char delimiter) {
+            if (delimiter > 127 || delimiter == '"' || delimiter == '\r' || delimiter == '\n') {
+                throw new IllegalArgumentException("Invalid delimiter: " + delimiter);
+            }
+            this.delimiter = delimiter;
+            return this;
         }
 
-        @Override
-        public Comment getCellComment() {
-            throw new UnsupportedOperationException();
+        /**
+         * 设置字符集
+         *
+         * @param charset 字符集（必须兼容ASCII）
+         * @return CSV数据读取处理器
+         */
+        @Nonnull
+        public CsvReader charset(Charset charset) {
+            byte[] bytes = ",\"\r\n".getBytes(charset);
+            if (bytes.length != 4 || bytes[0] != ',' || bytes[1] != '"' || bytes[2] != '\r' || bytes[3] != '\n') {
+                throw new IllegalArgumentException("Not support charset: " + charset);
+            }
+            this.charset = charset;
+            return this;
         }
 
-        @Override
-        public void removeCellComment() {
-            throw new UnsupportedOperationException();
+        /**
+         * CSV读操作
+         *
+         * @return 数据行总数
+         */
+        public int process() {
+            try {
+                if (this.file != null) {
+                    this.segments = MappedSharedStrings.map(this.file);
+                    this.segment = 0;
+                    this.buffer = this.segments.length == 0 ? ByteBuffer.allocate(0) : this.segments[0];
+                } else {
+                    this.bytes = new byte[Streams.DEFAULT_BUFFER_SIZE * 32];
+                    this.buffer = ByteBuffer.wrap(this.bytes, 0, 0);
+                    this.fill();
+                }
+                int position = this.buffer.position();
+                if (this.charset == StandardCharsets.UTF_8 && this.buffer.remaining() >= 3 && this.buffer.get(position) == (byte) 0xEF
+                        && this.buffer.get(position + 1) == (byte) 0xBB && this.buffer.get(position + 2) == (byte) 0xBF) { // 跳过UTF-8 BOM
+                    this.buffer.position(position + 3);
+                }
+                this.parse();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            } finally {
+                this.bytes = null;
+                this.buffer = null;
+                this.segments = null;
+            }
+            return this.count;
         }
 
-        @Override
-        public Hyperlink getHyperlink() {
-            throw new UnsupportedOperationException();
+        /**
+         * 解析CSV数据，支持引号包围的字段（包括字段内的分隔符、换行及成对引号转义），兼容CRLF、LF及CR换行
+         *
+         * @throws IOException IO操作异常
+         */
+        private void parse() throws IOException {
+            int number = 0, column = 0;
+            boolean quoted = false; // 是否位于引号内
+            boolean enclosed = false; // 当前字段是否以引号开始
+            boolean returned = false; // 上一个字符是否为回车
+            for (int b = this.read(); ; b = this.read()) {
+                if (returned) {
+                    returned = false;
+                    if (b == '\n') {
+                        continue;
+                    }
+                }
+                if (quoted) {
+                    if (b != '"' && b >= 0) {
+                        this.append(b);
+                        continue;
+                    }
+                    quoted = false;
+                    if (b == '"' && (b = this.read()) == '"') { // 成对引号转义
+                        this.append(b);
+                        quoted = true;
+                        continue;
+                    }
+                }
+                if (b == this.delimiter) {
+                    this.finishField(number, column++);
+                    enclosed = false;
+                } else if (b == '\n' || b == '\r' || b < 0) {
+                    if (column > 0 || this.length > 0 || enclosed) {
+                        this.finishField(number, column);
+                        this.finishRecord(number);
+                    }
+                    if (b < 0) {
+                        break;
+                    }
+                    number++;
+                    column = 0;
+                    enclosed = false;
+                    returned = b == '\r';
+                } else if (b == '"' && this.length == 0 && !enclosed) {
+                    quoted = enclosed = true;
+                } else {
+                    this.append(b);
+                }
+            }
         }
 
-        @Override
-        public void setHyperlink(Hyperlink hyperlink) {
-            throw new UnsupportedOperationException();
+        /**
+         * 完成字段解析，非空字段转换成单元格
+         *
+         * @param number 行下标
+         * @param column 列下标
+         */
+        private void finishField(int number, int column) {
+            if (this.length > 0 && number >= this.index) {
+                this.row.createCell(column).setCellValue(new String(this.field, 0, this.length, this.charset));
+            }
+            this.length = 0;
         }
 
-        @Override
-        public void removeHyperlink() {
-            throw new UnsupportedOperationException();
+        /**
+         * 完成记录解析，非空数据行转交给读接口
+         *
+         * @param number 行下标
+         */
+        private void finishRecord(int number) {
+            if (number >= this.index && !isEmpty(this.row)) {
+                this.row.setRowNum(number);
+                this.reader.read(this.row, ++this.count);
+            }
+            this.row.clear();
         }
 
-        @Override
-        public CellRangeAddress getArrayFormulaRange() {
-            throw new UnsupportedOperationException();
+        /**
+         * 追加字段字节
+         *
+         * @param b 字节
+         */
+        private void append(int b) {
+            if (this.length == this.field.length) {
+                this.field = Arrays.copyOf(this.field, this.length * 2);
+            }
+            this.field[this.length++] = (byte) b;
         }
 
-        @Override
-        public boolean isPartOfArrayFormulaGroup() {
-            throw new UnsupportedOperationException();
+        /**
+         * 读取下一个字节
+         *
+         * @return 字节值（0～255），到达结尾时返回-1
+         * @throws IOException IO操作异常
+         */
+        private int read() throws IOException {
+            return this.buffer.hasRemaining() || this.fill() ? this.buffer.get() & 0xFF : -1;
         }
 
-        @Override
-        public String toString() {
-            return this.value == null ? null : this.value.toString();
+        /**
+         * 填充数据缓冲区，文件读取时切换到下一个映射分段
+         *
+         * @return 是否还有数据
+         * @throws IOException IO操作异常
+         */
+        private boolean fill() throws IOException {
+            if (this.segments != null) {
+                while (this.segment + 1 < this.segments.length) {
+                    this.buffer = this.segments[++this.segment];
+                    if (this.buffer.hasRemaining()) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            for (int n; (n = this.input.read(this.bytes)) >= 0; ) {
+                if (n > 0) {
+                    this.buffer.clear();
+                    this.buffer.limit(n);
+                    return true;
+                }
+            }
+            return false;
         }
     }
 
     /**
-     * Excel2007数据读取处理器抽象实现
+     * CSV数据写入器，字段包含分隔符、引号或换行时加引号转义，数据写入缓冲输出流
      */
-    public static abstract class AbstractExcel2007Reader extends DefaultHandler implements Reader {
-        private Row row; // 当前行
-        private int count; // 迭代数量
-        private int index; // 开始行下标
-        private int column; // 当前列下标
-        private String value; // 当前单元格值
-        protected boolean datable; // 值是否为日期
-        protected boolean related; // 数据是否关联
-        protected OPCPackage pkg; // 文件包
-        protected SharedStringsTable shared; // 共享字符串表
+    public static class CsvWriter implements Closeable {
+        private int number; // 当前行下标
+        private int count; // 写入数量
+        private char delimiter = ','; // 字段分隔符
+        private final XMLRow row = new XMLRow(); // 复用数据行
+        private final BufferedWriter csv; // CSV字符输出流
 
-        public AbstractExcel2007Reader(OPCPackage pkg) {
-            this(pkg, 0);
+        public CsvWriter(OutputStream output) {
+            this(output, StandardCharsets.UTF_8);
         }
 
         @Nonnull
-        public AbstractExcel2007Reader(OPCPackage pkg, @Min(0) int index) {
-            this.pkg = pkg;
-            this.index = index;
-            this.value = Strings.EMPTY_STRING;
+        public CsvWriter(OutputStream output, Charset charset) {
+            this.csv = new BufferedWriter(new OutputStreamWriter(output, charset), Streams.DEFAULT_BUFFER_SIZE * 32);
         }
 
         /**
-         * 构建行对象，解析行开始标签时调用
+         * 设置字段分隔符
          *
-         * @return 行对象实例
+         * @param delimiter 字段分隔符
+         * @return CSV数据写入器
          */
-        protected Row buildRow() {
-            return new XMLRow();
+        public CsvWriter delimiter(char delimiter) {
+            if (delimiter == '"' || delimiter == '\r' || delimiter == '\n') {
+                throw new IllegalArgumentException("Invalid delimiter: " + delimiter);
+            }
+            this.delimiter = delimiter;
+            return this;
         }
 
         /**
-         * 构建单元格，解析单元格开始标签时调用
+         * 写入标题行
          *
-         * @param row    行对象
-         * @param column 列下标（从0开始）
-         * @return 单元格对象
+         * @param titles 标题数组
+         * @throws IOException IO操作异常
          */
         @Nonnull
-        protected Cell buildCell(Row row, @Min(0) int column) {
-            return row.createCell(column);
+        public void writeTitles(String... titles) throws IOException {
+            for (int i = 0; i < titles.length; i++) {
+                if (i > 0) {
+                    this.csv.write(this.delimiter);
+                }
+                if (titles[i] != null) {
+                    this.escape(titles[i]);
+                }
+            }
+            this.csv.write("\r\n");
+            this.number++;
         }
 
         /**
-         * 构建XML数据读取处理器
+         * 写入数据行，列之间缺失的单元格写入空字段
          *
-         * @return XML数据读取处理器
-         * @throws SAXException 构建异常
+         * @param row 数据行
+         * @throws IOException IO操作异常
          */
-        protected XMLReader buildXMLReader() throws SAXException {
-            return XMLReaderFactory.createXMLReader("org.apache.xerces.parsers.SAXParser");
+        @Nonnull
+        public void write(Row row) throws IOException {
+            int last = -1;
+            if (row instanceof XMLRow) {
+                XMLRow xmlRow = (XMLRow) row;
+                for (int i = 0; i < xmlRow.size; i++) {
+                    last = this.writeCell(last, xmlRow.cells[xmlRow.columns[i]]);
+                }
+            } else {
+                for (Cell cell : row) {
+                    last = this.writeCell(last, cell);
+                }
+            }
+            this.csv.write("\r\n");
+            this.number++;
         }
 
         /**
-         * 根据单元格标签属性解析单元格地址，解析单元格开始标签时调用
+         * 将对象实例逐个写入，对象实例通过复用的数据行转换
          *
-         * @param attributes 标签属性对象
-         * @return 单元格地址
+         * @param <M>     数据类型
+         * @param objects 对象实例迭代器
+         * @param writer  Excel对象实例写入接口
+         * @return 写入数量
+         * @throws IOException IO操作异常
          */
         @Nonnull
-        protected CellAddress analyseCellAddress(Attributes attributes) {
-            return addressAdapter(attributes.getValue("r"));
+        public <M> int write(Iterator<M> objects, Writer<M> writer) throws IOException {
+            int count = 0;
+            while (objects.hasNext()) {
+                M object = objects.next();
+                this.row.clear();
+                this.row.setRowNum(this.number);
+                writer.write(this.row, object, ++this.count);
+                this.write(this.row);
+                count++;
+            }
+            return count;
         }
 
         /**
-         * 初始化单元格类型，解析单元格开始标签时调用
+         * 写入单元格字段
          *
-         * @param cell       单元格对象
-         * @param attributes 标签属性对象
+         * @param last 上一个已写入的列下标
+         * @param cell 单元格对象
+         * @return 当前列下标
+         * @throws IOException IO操作异常
          */
-        @Nonnull
-        protected void initializeCellType(Cell cell, Attributes attributes) {
-            String t = attributes.getValue("t");
-            String s = attributes.getValue("s");
-            this.datable = "1".equals(s) || "2".equals(s);
-            if ((this.related = "s".equals(t)) || "inlineStr".equals(t)) {
-                cell.setCellType(CellType.STRING);
-            } else if ("b".equals(t)) {
-                cell.setCellType(CellType.BOOLEAN);
-            } else if (this.datable || Strings.isEmpty(t)) {
-                cell.setCellType(CellType.NUMERIC);
+        private int writeCell(int last, Cell cell) throws IOException {
+            int column = cell.getColumnIndex();
+            for (int i = last + 1; i <= column; i++) {
+                if (i > 0) {
+                    this.csv.write(this.delimiter);
+                }
+            }
+            String text;
+            if (cell instanceof XMLCell) {
+                XMLCell xmlCell = (XMLCell) cell;
+                text = xmlCell.formula != null ? "=" + xmlCell.formula : xmlCell.numeric && !xmlCell.datable ?
+                        Excel2007Writer.toString(xmlCell.number) : this.toString(xmlCell.getObjectValue());
             } else {
-                cell.setCellType(CellType.STRING);
+                CellType type = cell.getCellType();
+                if (type == CellType.FORMULA) {
+                    text = "=" + cell.getCellFormula();
+                } else if (type == CellType.NUMERIC) {
+                    text = HSSFDateUtil.isCellDateFormatted(cell) ? Dates.format(cell.getDateCellValue())
+                            : Excel2007Writer.toString(cell.getNumericCellValue());
+                } else if (type == CellType.BOOLEAN) {
+                    text = String.valueOf(cell.getBooleanCellValue());
+                } else if (type == CellType.STRING) {
+                    text = cell.getStringCellValue();
+                } else if (type == CellType.ERROR) {
+                    text = FormulaError.forInt(cell.getErrorCellValue()).getString();
+                } else {
+                    text = null;
+                }
+            }
+            if (text != null) {
+                this.escape(text);
             }
+            return column;
         }
 
         /**
-         * 初始化单元格值，解析单元格值结束标签时调用
+         * 将单元格对象值转换成字段文本
          *
-         * @param cell  单元格对象
-         * @param value 原始值
+         * @param value 对象值
+         * @return 字段文本
          */
-        @Nonnull
-        protected void initializeCellValue(Cell cell, String value) {
-            if (this.related) { // 如果为字符串，则从共享关联表中取数据
-                cell.setCellValue(this.shared.getItemAt(Integer.parseInt(value)).getString());
-            } else if (cell.getCellType() == CellType.BOOLEAN) {
-                cell.setCellValue(Integer.parseInt(value) > 0);
-            } else if (cell.getCellType() == CellType.NUMERIC) {
-                double number = Double.parseDouble(value);
-                if (this.datable) {
-                    cell.setCellValue(HSSFDateUtil.getJavaDate(number));
-                } else {
-                    cell.setCellValue(number);
-                }
-            } else {
-                cell.setCellValue(value);
-            }
+        private String toString(Object value) {
+            return value == null ? null : value instanceof Date ? Dates.format((Date) value) : value.toString();
         }
 
         /**
-         * Excel读操作
+         * 写入字段文本，包含分隔符、引号或换行时加引号并将引号成对转义
          *
-         * @return 数据行总数
+         * @param text 字段文本
+         * @throws IOException IO操作异常
          */
-        public int process() {
-            try {
-                XMLReader parser = this.buildXMLReader();
-                parser.setContentHandler(this);
-                XSSFReader reader = new XSSFReader(this.pkg);
-                this.shared = reader.getSharedStringsTable();
-                Iterator<InputStream> sheets = reader.getSheetsData();
-                while (sheets.hasNext()) {
-                    try (InputStream sheet = sheets.next()) {
-                        parser.parse(new InputSource(sheet));
-                    }
+        private void escape(String text) throws IOException {
+            boolean quoted = false;
+            for (int i = 0, len = text.length(); i < len && !quoted; i++) {
+                char c = text.charAt(i);
+                quoted = c == this.delimiter || c == '"' || c == '\r' || c == '\n';
+            }
+            if (!quoted) {
+                this.csv.write(text);
+                return;
+            }
+            this.csv.write('"');
+            int start = 0;
+            for (int i = 0, len = text.length(); i < len; i++) {
+                if (text.charAt(i) == '"') {
+                    this.csv.write(text, start, i - start + 1);
+                    this.csv.write('"');
+                    start = i + 1;
                 }
-            } catch (IOException | SAXException | OpenXML4JException e) {
-                throw new RuntimeException(e);
             }
-            return this.count;
+            this.csv.write(text, start, text.length() - start);
+            this.csv.write('"');
         }
 
+        /**
+         * 刷新缓冲数据，不关闭调用方的输出流
+         *
+         * @throws IOException IO操作异常
+         */
         @Override
-        public void characters(char[] ch, int start, int length) throws SAXException {
-            if (this.value.isEmpty()) {
-                this.value = new String(ch, start, length);
-            } else {
-                this.value += new String(ch, start, length);
-            }
+        public void close() throws IOException {
+            this.csv.flush();
         }
+    }
 
-        @Override
-        public void startElement(String uri, String localName, String name, Attributes attributes) throws SAXException {
-            if ("row".equals(name)) { // 行开始标签
-                this.row = null; // 清空当前行
-                int number = Integer.parseInt(attributes.getValue("r")) - 1; // 当前行下标
-                if (number >= this.index) {
-                    this.row = this.buildRow();
-                    this.row.setRowNum(number);
+    /**
+     * Excel数据行与对象字段绑定，按对象类型编译一次后在所有数据行间复用
+     *
+     * @param <M> 数据类型
+     */
+    private static class Binding<M> {
+        /**
+         * 对象类型/字段绑定映射，绑定随对象类型保存，不会阻止类加载器被回收
+         */
+        private static final ClassValue<Binding<?>> bindings = new ClassValue<Binding<?>>() {
+            @Override
+            protected Binding<?> computeValue(Class<?> type) {
+                return new Binding<>(type);
+            }
+        };
+
+        /**
+         * 字段设置方法类型
+         */
+        private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+        /**
+         * 字段获取方法类型
+         */
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+        private final Class<M> type; // 对象类型
+        private final MethodHandle constructor; // 对象构造方法（没有无参构造方法时为空）
+        private final MethodHandle[] setters; // 字段设置方法数组（下标与列下标对应）
+        private final List<Function<Object, Object>> converters; // 字段值转换器列表
+        private final boolean[] primitives; // 字段是否为基本类型数组
+        private final FieldWriter[] writers; // 字段值写入器数组（下标与列下标对应）
+        private final String[] titles; // 列标题数组
+
+        private Binding(Class<M> type) {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            Field[] fields = getFields(type);
+            this.type = type;
+            this.setters = new MethodHandle[fields.length];
+            this.converters = new ArrayList<>(fields.length);
+            this.primitives = new boolean[fields.length];
+            this.writers = new FieldWriter[fields.length];
+            this.titles = new String[fields.length];
+            try {
+                MethodHandle constructor = null;
+                try {
+                    Constructor<M> declared = type.getDeclaredConstructor();
+                    declared.setAccessible(true);
+                    constructor = lookup.unreflectConstructor(declared).asType(MethodType.methodType(Object.class));
+                } catch (NoSuchMethodException e) { // 只能用于写入
                 }
-            } else if (this.row != null && this.row.getRowNum() >= this.index) {
-                this.value = Strings.EMPTY_STRING; // 清空过程数据
-                if ("c".equals(name)) { // 单元格开始标签
-                    // 解析单元格所在列下标
-                    this.column = this.analyseCellAddress(attributes).getColumn();
-                    // 构建单元格并初始化单元格值类型
-                    this.initializeCellType(this.buildCell(this.row, this.column), attributes);
+                this.constructor = constructor;
+                for (int i = 0; i < fields.length; i++) {
+                    Field field = fields[i];
+                    Title title = field.getAnnotation(Title.class);
+                    field.setAccessible(true);
+                    this.setters[i] = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+                    this.converters.add(buildConverter(field.getType()));
+                    this.primitives[i] = field.getType().isPrimitive();
+                    this.writers[i] = buildWriter(field.getType(), lookup.unreflectGetter(field));
+                    this.titles[i] = title == null ? field.getName() : title.value();
                 }
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
             }
         }
 
-        @Override
-        public void endElement(String uri, String localName, String name) throws SAXException {
-            if (this.row != null && this.row.getRowNum() >= this.index) {
-                if ("row".equals(name) && !isEmpty(this.row)) { // 行解析完成
-                    this.read(this.row, ++this.count);
-                } else if (!this.value.isEmpty() && ("v".equals(name) || "t".equals(name))) { // 值解析完成
-                    this.initializeCellValue(this.row.getCell(this.column), this.value);
+        /**
+         * 获取对象类型与数据列对应的字段，存在Title注解的字段时只使用注解字段并按注解顺序排列，否则使用所有实例字段
+         *
+         * @param type 对象类型
+         * @return 字段数组
+         */
+        private static Field[] getFields(Class<?> type) {
+            Field[] fields = Objects.getFields(type);
+            List<Field> titled = new ArrayList<>(fields.length);
+            for (Field field : fields) {
+                if (field.isAnnotationPresent(Title.class)) {
+                    titled.add(field);
                 }
             }
+            if (titled.isEmpty()) {
+                return fields;
+            }
+            titled.sort((a, b) -> Integer.compare(a.getAnnotation(Title.class).order(), b.getAnnotation(Title.class).order()));
+            return titled.toArray(new Field[0]);
         }
-    }
 
-    /**
-     * Excel2007数据行记录器
-     */
-    public static class Excel2007Counter extends AbstractExcel2007Reader {
-        public Excel2007Counter(OPCPackage pkg) {
-            super(pkg);
+        /**
+         * 获取对象类型字段绑定
+         *
+         * @param <M>  数据类型
+         * @param type 对象类型
+         * @return 字段绑定
+         */
+        public static <M> Binding<M> of(@Nonnull Class<M> type) {
+            @SuppressWarnings("unchecked")
+            Binding<M> binding = (Binding<M>) bindings.get(type);
+            return binding;
         }
 
-        public Excel2007Counter(OPCPackage pkg, int index) {
-            super(pkg, index);
+        /**
+         * 根据字段类型选择值转换器
+         *
+         * @param type 字段类型
+         * @return 值转换器
+         */
+        private static Function<Object, Object> buildConverter(Class<?> type) {
+            if (type == Object.class) {
+                return value -> value;
+            } else if (type == String.class) {
+                return Strings::toString;
+            } else if (type == int.class || type == Integer.class) {
+                return Objects::toInteger;
+            } else if (type == long.class || type == Long.class) {
+                return Objects::toLong;
+            } else if (type == double.class || type == Double.class) {
+                return Objects::toDouble;
+            } else if (type == float.class || type == Float.class) {
+                return Objects::toFloat;
+            } else if (type == short.class || type == Short.class) {
+                return Objects::toShort;
+            } else if (type == byte.class || type == Byte.class) {
+                return Objects::toByte;
+            } else if (type == char.class || type == Character.class) {
+                return Objects::toCharacter;
+            } else if (type == boolean.class || type == Boolean.class) {
+                return Objects::toBoolean;
+            } else if (type == Date.class) {
+                return Objects::toDate;
+            }
+            return value -> Objects.toObject(type, value);
         }
 
-        @Override
-        protected void initializeCellType(Cell cell, Attributes attributes) {
-            cell.setCellType(CellType.NUMERIC);
+        /**
+         * 根据字段类型选择字段值写入器，基本类型字段直接按数字或真假值写入，避免装箱及通用类型判断
+         *
+         * @param type   字段类型
+         * @param getter 字段获取方法
+         * @return 字段值写入器
+         */
+        private static FieldWriter buildWriter(Class<?> type, MethodHandle getter) {
+            if (type == int.class) {
+                MethodHandle handle = getter.asType(MethodType.methodType(int.class, Object.class));
+                return (cell, object) -> cell.setCellValue((int) handle.invokeExact(object));
+            } else if (type == long.class) {
+                MethodHandle handle = getter.asType(MethodType.methodType(long.class, Object.class));
+                return (cell, object) -> cell.setCellValue((long) handle.invokeExact(object));
+            } else if (type == double.class) {
+                MethodHandle handle = getter.asType(MethodType.methodType(double.class, Object.class));
+                return (cell, object) -> cell.setCellValue((double) handle.invokeExact(object));
+            } else if (type == float.class) {
+                MethodHandle handle = getter.asType(MethodType.methodType(float.class, Object.class));
+                return (cell, object) -> cell.setCellValue((float) handle.invokeExact(object));
+            } else if (type == short.class) {
+                MethodHandle handle = getter.asType(MethodType.methodType(short.class, Object.class));
+                return (cell, object) -> cell.setCellValue((short) handle.invokeExact(object));
+            } else if (type == byte.class) {
+                MethodHandle handle = getter.asType(MethodType.methodType(byte.class, Object.class));
+                return (cell, object) -> cell.setCellValue((byte) handle.invokeExact(object));
+            } else if (type == boolean.class) {
+                MethodHandle handle = getter.asType(MethodType.methodType(boolean.class, Object.class));
+                return (cell, object) -> cell.setCellValue((boolean) handle.invokeExact(object));
+            }
+            MethodHandle handle = getter.asType(GETTER_TYPE);
+            if (Number.class.isAssignableFrom(type)) {
+                return (cell, object) -> {
+                    Object value = handle.invokeExact(object);
+                    if (value != null) {
+                        cell.setCellValue(((Number) value).doubleValue());
+                    }
+                };
+            } else if (type == Boolean.class) {
+                return (cell, object) -> {
+                    Object value = handle.invokeExact(object);
+                    if (value != null) {
+                        cell.setCellValue((Boolean) value);
+                    }
+                };
+            } else if (type == String.class) {
+                return (cell, object) -> {
+                    Object value = handle.invokeExact(object);
+                    if (value != null && !((String) value).isEmpty()) {
+                        cell.setCellValue((String) value);
+                    }
+                };
+            }
+            return (cell, object) -> setValue(cell, handle.invokeExact(object));
         }
 
-        @Override
-        protected void initializeCellValue(Cell cell, String value) {
-            CellType type = cell.getCellType();
-            if (!(type == CellType.BLANK || type == CellType.STRING)
-                    || (type == CellType.STRING && !value.isEmpty() && !value.trim().isEmpty())) {
-                cell.setCellValue(1); // 设置1表示此单元格值不为空
+        /**
+         * 获取列标题数组，字段存在Title注解时为注解标题，否则为字段名称
+         *
+         * @return 列标题数组
+         */
+        public String[] getTitles() {
+            return this.titles.clone();
+        }
+
+        /**
+         * 将对象实例写入Excel行，字段下标与列下标一一对应
+         *
+         * @param row    Excel行对象
+         * @param object 对象实例
+         */
+        public void write(@Nonnull Row row, @Nonnull Object object) {
+            try {
+                for (int i = 0; i < this.writers.length; i++) {
+                    this.writers[i].write(row.createCell(i), object);
+                }
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        /**
+         * 将Excel行转换成对象实例，列下标与字段下标一一对应
+         *
+         * @param row Excel行对象
+         * @return 对象实例
+         */
+        public M read(@Nonnull Row row) {
+            if (this.constructor == null) {
+                throw new RuntimeException(new NoSuchMethodException(this.type.getName() + ".<init>()"));
+            }
+            try {
+                Object object = this.constructor.invokeExact();
+                int last = -1; // 最后一个已设置值的字段下标
+                for (int i = Math.max(row.getFirstCellNum(), 0), len = Math.min(row.getLastCellNum(), this.setters.length); i < len; i++) {
+                    Object value = getValue(row.getCell(i));
+                    if (value == null) {
+                        continue;
+                    }
+                    for (int j = last + 1; j < i; j++) { // 空值只设置到最后一个非空值为止，与getValues(Row)的处理方式保持一致
+                        if (!this.primitives[j]) {
+                            this.setters[j].invokeExact(object, (Object) null);
+                        }
+                    }
+                    this.setters[i].invokeExact(object, this.converters.get(i).apply(value));
+                    last = i;
+                }
+                return this.type.cast(object);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
             }
         }
+    }
 
-        @Override
-        public void read(Row row, int count) {
-        }
+    /**
+     * 字段值写入接口
+     */
+    private interface FieldWriter {
+        /**
+         * 将对象实例的字段值写入单元格
+         *
+         * @param cell   单元格对象
+         * @param object 对象实例
+         * @throws Throwable 字段访问异常
+         */
+        void write(Cell cell, Object object) throws Throwable;
     }
 
     /**
@@ -1064,6 +5977,125 @@ public abstract class Excels {
         throw new IllegalArgumentException("Invalid cell address: " + address);
     }
 
+    /**
+     * 10的幂次方数组（可被双精度浮点数精确表示的范围）
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * 判断字符区间是否为空白
+     *
+     * @param chars  字符数组
+     * @param start  开始位置
+     * @param length 字符长度
+     * @return true/false
+     */
+    private static boolean isBlank(char[] chars, int start, int length) {
+        for (int i = start, end = start + length; i < end; i++) {
+            if (chars[i] > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 将字符串转换成整数，不构建中间对象
+     *
+     * @param source 字符串
+     * @return 整数
+     */
+    private static int parseInteger(String source) {
+        int number = 0, length = source.length();
+        if (length == 0 || length > 9) {
+            return Integer.parseInt(source);
+        }
+        for (int i = 0; i < length; i++) {
+            char c = source.charAt(i);
+            if (c < '0' || c > '9') {
+                return Integer.parseInt(source);
+            }
+            number = number * 10 + c - '0';
+        }
+        return number;
+    }
+
+    /**
+     * 将字符区间转换成整数，不构建中间对象
+     *
+     * @param chars  字符数组
+     * @param start  开始位置
+     * @param length 字符长度
+     * @return 整数
+     */
+    private static int parseInteger(char[] chars, int start, int length) {
+        int number = 0;
+        if (length == 0 || length > 9) {
+            return Integer.parseInt(new String(chars, start, length));
+        }
+        for (int i = start, end = start + length; i < end; i++) {
+            char c = chars[i];
+            if (c < '0' || c > '9') {
+                return Integer.parseInt(new String(chars, start, length));
+            }
+            number = number * 10 + c - '0';
+        }
+        return number;
+    }
+
+    /**
+     * 将字符区间转换成双精度浮点数，有效数字不超过15位且指数较小时直接计算（结果与Double.parseDouble一致），否则使用Double.parseDouble转换
+     *
+     * @param chars  字符数组
+     * @param start  开始位置
+     * @param length 字符长度
+     * @return 双精度浮点数
+     */
+    private static double parseNumber(char[] chars, int start, int length) {
+        int i = start, end = start + length, digits = 0, exponent = 0;
+        long mantissa = 0;
+        boolean negative = false, valid = false;
+        if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+            negative = chars[i++] == '-';
+        }
+        for (; i < end && chars[i] >= '0' && chars[i] <= '9'; i++, valid = true) {
+            if (mantissa > 0 || chars[i] != '0') {
+                mantissa = mantissa * 10 + chars[i] - '0';
+                if (++digits > 15) {
+                    return Double.parseDouble(new String(chars, start, length));
+                }
+            }
+        }
+        if (i < end && chars[i] == '.') {
+            for (i++; i < end && chars[i] >= '0' && chars[i] <= '9'; i++, valid = true, exponent--) {
+                if (mantissa > 0 || chars[i] != '0') {
+                    mantissa = mantissa * 10 + chars[i] - '0';
+                    if (++digits > 15) {
+                        return Double.parseDouble(new String(chars, start, length));
+                    }
+                }
+            }
+        }
+        if (valid && i < end && (chars[i] == 'e' || chars[i] == 'E') && end - i <= 5) {
+            int power = 0, sign = 1;
+            if (++i < end && (chars[i] == '-' || chars[i] == '+')) {
+                sign = chars[i++] == '-' ? -1 : 1;
+            }
+            for (valid = i < end; i < end && chars[i] >= '0' && chars[i] <= '9'; i++) {
+                power = power * 10 + chars[i] - '0';
+            }
+            exponent += sign * power;
+        }
+        if (!valid || i < end || exponent < -22 || exponent > 22) {
+            return Double.parseDouble(new String(chars, start, length));
+        }
+        double number = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        return negative ? -number : number;
+    }
+
     /**
      * 构建Excel工作薄
      *
@@ -1089,6 +6121,17 @@ public abstract class Excels {
         throw new IllegalArgumentException("Not support excel type: " + type);
     }
 
+    /**
+     * 构建基于临时文件的流式Excel2007工作薄，内存中只保留窗口大小的数据行
+     *
+     * @param window     内存中保留的数据行数
+     * @param compressed 是否压缩临时文件
+     * @return Excel工作薄
+     */
+    public static SXSSFWorkbook buildWorkbook(@Min(1) int window, boolean compressed) {
+        return new SXSSFWorkbook(null, window, compressed);
+    }
+
     /**
      * 构建Excel工作薄
      *
@@ -1135,7 +6178,6 @@ public abstract class Excels {
         } else {
             throw new IllegalArgumentException("Not support excel type: " + type);
         }
-        evaluator.set(workbook.getCreationHelper().createFormulaEvaluator());
         return workbook;
     }
 
@@ -1222,6 +6264,9 @@ public abstract class Excels {
         try (OutputStream output = new FileOutputStream(file)) {
             workbook.write(output);
         } finally {
+            if (workbook instanceof SXSSFWorkbook) { // 删除流式工作薄临时文件
+                ((SXSSFWorkbook) workbook).dispose();
+            }
             workbook.close();
         }
     }
@@ -1258,6 +6303,16 @@ public abstract class Excels {
         }
     }
 
+    /**
+     * 拷贝行，基于XML的行对象返回副本，其他行对象直接返回
+     *
+     * @param row 行对象
+     * @return 行对象
+     */
+    private static Row copy(Row row) {
+        return row instanceof XMLRow ? ((XMLRow) row).copy() : row;
+    }
+
     /**
      * 拷贝表格
      *
@@ -1281,9 +6336,24 @@ public abstract class Excels {
      * @return true/false
      */
     public static boolean isEmpty(Row row) {
-        if (row != null) {
+        if (row instanceof XMLRow) {
+            XMLRow xmlRow = (XMLRow) row;
+            for (int i = 0; i < xmlRow.size; i++) {
+                if (!xmlRow.cells[xmlRow.columns[i]].isBlank()) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (row != null) {
             for (int i = row.getFirstCellNum(), len = row.getLastCellNum(); i < len; i++) {
-                Object value = getValue(row.getCell(i));
+                Cell cell = row.getCell(i);
+                if (cell instanceof XMLCell) {
+                    if (!((XMLCell) cell).isBlank()) {
+                        return false;
+                    }
+                    continue;
+                }
+                Object value = getValue(cell);
                 if (value != null && (!(value instanceof CharSequence) || !Strings.isBlank((CharSequence) value))) {
                     return false;
                 }
@@ -1292,6 +6362,48 @@ public abstract class Excels {
         return true;
     }
 
+    /**
+     * 将公式计算器与工作薄绑定到当前线程，关闭公式计算器后解除绑定
+     *
+     * @param workbook Excel工作薄
+     * @param mode     公式计算方式
+     * @return 公式计算器
+     */
+    public static Evaluator evaluate(Workbook workbook, Evaluation mode) {
+        return new Evaluator(workbook, mode).bind();
+    }
+
+    /**
+     * 获取当前线程中与工作薄绑定的公式计算器，未绑定或绑定的是其他工作薄时返回该工作薄共享的按需计算公式计算器，
+     * 不会修改当前线程的绑定；共享的公式计算器只被弱引用，垃圾回收后将重新构建，需要稳定复用计算结果时应先通过evaluate(Workbook, Evaluation)绑定
+     *
+     * @param workbook Excel工作薄
+     * @return 公式计算器
+     */
+    @Nonnull
+    public static Evaluator getEvaluator(Workbook workbook) {
+        Evaluator current = evaluator.get();
+        if (current != null && current.workbook == workbook) {
+            return current;
+        }
+        WeakReference<Evaluator> reference = evaluators.get(workbook);
+        if (reference == null || (current = reference.get()) == null) {
+            evaluators.put(workbook, new WeakReference<>(current = new Evaluator(workbook, Evaluation.LAZY)));
+        }
+        return current;
+    }
+
+    /**
+     * 为批量读取构建临时绑定的按需计算公式计算器，当前线程已绑定该工作薄的公式计算器时不重复绑定
+     *
+     * @param workbook Excel工作薄
+     * @return 公式计算器，已存在绑定时返回null
+     */
+    private static Evaluator scope(Workbook workbook) {
+        Evaluator current = evaluator.get();
+        return current != null && current.workbook == workbook ? null : evaluate(workbook, Evaluation.LAZY);
+    }
+
     /**
      * 获取Excel单元格值
      *
@@ -1302,7 +6414,7 @@ public abstract class Excels {
         if (cell == null) {
             return null;
         } else if (cell instanceof XMLCell) {
-            Object value = ((XMLCell) cell).value;
+            Object value = ((XMLCell) cell).getObjectValue();
             return value instanceof String ? Strings.trim((String) value) : value;
         }
         CellType type = cell.getCellType();
@@ -1313,16 +6425,7 @@ public abstract class Excels {
         } else if (type == CellType.NUMERIC) {
             return HSSFDateUtil.isCellDateFormatted(cell) ? cell.getDateCellValue() : cell.getNumericCellValue();
         } else if (type == CellType.FORMULA) {
-            if (cell.getCachedFormulaResultType() == CellType.ERROR) {
-                return FormulaError.forInt(cell.getErrorCellValue()).getString();
-            }
-            CellValue value = evaluator.get().evaluate(cell);
-            if (value.getCellType() == CellType.NUMERIC) {
-                return HSSFDateUtil.isCellDateFormatted(cell) ? HSSFDateUtil.getJavaDate(value.getNumberValue()) : value.getNumberValue();
-            } else if (value.getCellType() == CellType.BOOLEAN) {
-                return value.getBooleanValue();
-            }
-            return Strings.trim(value.getStringValue());
+            return getEvaluator(cell.getSheet().getWorkbook()).evaluate(cell);
         } else if (type == CellType.ERROR) {
             return FormulaError.forInt(cell.getErrorCellValue()).getString();
         }
@@ -1435,6 +6538,17 @@ public abstract class Excels {
         setValue(cell, null, value);
     }
 
+    /**
+     * 设置Excel单元格值，样式从单元格所在工作薄的样式注册表中获取
+     *
+     * @param cell  Excel单元格对象
+     * @param style 单元格样式描述
+     * @param value 值
+     */
+    public static void setStyledValue(@Nonnull Cell cell, Style style, Object value) {
+        setValue(cell, style == null || Objects.isEmpty(value) ? null : buildStyle(cell.getSheet().getWorkbook(), style), value);
+    }
+
     /**
      * 设置Excel单元格值
      *
@@ -1588,7 +6702,8 @@ public abstract class Excels {
                 cache.put(index, row);
             }
             for (Tree tree : trees) {
-                setValue(row.createCell(column), tree.style, tree.value); // 设置单元格值
+                setValue(row.createCell(column), tree.style != null || tree.template == null ? tree.style
+                        : buildStyle(sheet.getWorkbook(), tree.template), tree.value); // 设置单元格值
                 if (tree.width > 1 || tree.rowspan > 1) { // 合并单元格
                     sheet.addMergedRegion(new CellRangeAddress(index, index + tree.rowspan - 1, column, column + tree.width - 1));
                 }
@@ -1615,7 +6730,19 @@ public abstract class Excels {
     }
 
     /**
-     * 构建标题样式
+     * 构建样式，样式按属性在工作薄中注册，相同属性的样式及字体只创建一次
+     *
+     * @param workbook Excel工作薄
+     * @param style    样式描述
+     * @return 样式对象（同一工作薄中共享，不应再修改）
+     */
+    @Nonnull
+    public static CellStyle buildStyle(Workbook workbook, Style style) {
+        return StyleRegistry.lookup(workbook, style);
+    }
+
+    /**
+     * 构建标题样式，每次调用均创建新的样式对象，可自由修改
      *
      * @param workbook Excel工作薄
      * @return 样式对象
@@ -1631,114 +6758,315 @@ public abstract class Excels {
     }
 
     /**
-     * 设置Excel标题
+     * 设置Excel标题，标题样式在同一工作薄中注册并共享
+     *
+     * @param row    Excel行
+     * @param titles 标题数组
+     */
+    @Nonnull
+    public static void setTitles(Row row, String... titles) {
+        if (titles.length > 0) {
+            setValues(row, buildStyle(row.getSheet().getWorkbook(), TITLE_STYLE), titles);
+        }
+    }
+
+    /**
+     * 统计Excel数据行数
+     *
+     * @param sheet Excel表格
+     * @return 数量
+     */
+    public static int count(Sheet sheet) {
+        return count(sheet, 0);
+    }
+
+    /**
+     * 统计Excel数据行数
+     *
+     * @param workbook Excel工作薄
+     * @return 数量
+     */
+    public static int count(Workbook workbook) {
+        return count(workbook, 0);
+    }
+
+    /**
+     * 统计Excel数据行数
+     *
+     * @param sheet Excel表格
+     * @param index 开始数据行下标（从0开始）
+     * @return 数量
+     */
+    @Nonnull
+    public static int count(Sheet sheet, @Min(0) int index) {
+        return sheet.getPhysicalNumberOfRows() - index;
+    }
+
+    /**
+     * 统计Excel数据行数
+     *
+     * @param workbook Excel工作薄
+     * @param index    开始数据行下标（从0开始）
+     * @return 数量
+     */
+    @Nonnull
+    public static int count(Workbook workbook, @Min(0) int index) {
+        int count = 0;
+        for (int i = 0, sheets = workbook.getNumberOfSheets(); i < sheets; i++) {
+            count += count(workbook.getSheetAt(i), index);
+        }
+        return count;
+    }
+
+    /**
+     * 统计Excel数据行数
+     *
+     * @param pkg 文件包
+     * @return 数量
+     */
+    public static int count(OPCPackage pkg) {
+        return count(pkg, 0);
+    }
+
+    /**
+     * 统计Excel数据行数
+     *
+     * @param pkg   文件包
+     * @param index 开始数据行下标（从0开始）
+     * @return 数量
+     */
+    @Nonnull
+    public static int count(OPCPackage pkg, @Min(0) int index) {
+        return new Excel2007Scanner(pkg, index).process();
+    }
+
+    /**
+     * 统计Excel数据行数
+     *
+     * @param pkg         文件包
+     * @param index       开始数据行下标（从0开始）
+     * @param dimensional 是否优先使用表格维度信息统计（统计结果包含维度范围内的空行）
+     * @return 数量
+     */
+    @Nonnull
+    public static int count(OPCPackage pkg, @Min(0) int index, boolean dimensional) {
+        return new Excel2007Scanner(pkg, index).dimensional(dimensional).process();
+    }
+
+    /**
+     * 通过解析XML的方式读取Excel2007数据，回调的数据行均为独立对象，可直接保留
+     *
+     * @param pkg    文件包
+     * @param reader Excel读接口
+     * @return 读取数量
+     */
+    public static int read(OPCPackage pkg, Reader reader) {
+        return read(pkg, 0, reader);
+    }
+
+    /**
+     * 通过解析XML的方式读取Excel2007数据，回调的数据行均为独立对象，可直接保留
+     *
+     * @param pkg    文件包
+     * @param index  开始数据行下标（从0开始）
+     * @param reader Excel读接口
+     * @return 读取数量
+     */
+    public static int read(OPCPackage pkg, int index, Reader reader) {
+        return new Excel2007Reader(pkg, index, reader).process();
+    }
+
+    /**
+     * 通过解析XML的方式读取Excel2007指定窗口内的数据，读取数量达到限制后立即结束解析，回调的数据行均为独立对象
+     *
+     * @param pkg    文件包
+     * @param index  开始数据行下标（从0开始）
+     * @param offset 跳过的数据行数
+     * @param limit  最大读取数据行数
+     * @param reader Excel读接口
+     * @return 读取数量
+     */
+    public static int read(OPCPackage pkg, int index, int offset, int limit, Reader reader) {
+        return new Excel2007Reader(pkg, index, reader).window(offset, limit).process();
+    }
+
+    /**
+     * 通过HSSF事件模型读取Excel2003数据
+     *
+     * @param fs     文件系统
+     * @param reader Excel读接口
+     * @return 读取数量
+     */
+    public static int read(POIFSFileSystem fs, Reader reader) {
+        return read(fs, 0, reader);
+    }
+
+    /**
+     * 通过HSSF事件模型读取Excel2003数据
+     *
+     * @param fs     文件系统
+     * @param index  开始数据行下标（从0开始）
+     * @param reader Excel读接口
+     * @return 读取数量
+     */
+    public static int read(POIFSFileSystem fs, int index, Reader reader) {
+        return new Excel2003Reader(fs, index, reader).process();
+    }
+
+    /**
+     * 通过HSSF事件模型读取Excel2003指定窗口内的数据，读取数量达到限制后立即结束解析
+     *
+     * @param fs     文件系统
+     * @param index  开始数据行下标（从0开始）
+     * @param offset 跳过的数据行数
+     * @param limit  最大读取数据行数
+     * @param reader Excel读接口
+     * @return 读取数量
+     */
+    public static int read(POIFSFileSystem fs, int index, int offset, int limit, Reader reader) {
+        return new Excel2003Reader(fs, index, reader).window(offset, limit).process();
+    }
+
+    /**
+     * 通过解析XML的方式读取Excel2007数据，解析与数据行处理异步进行，数据行处理异常将在调用线程中抛出
+     *
+     * @param pkg       文件包
+     * @param index     开始数据行下标（从0开始）
+     * @param reader    Excel读接口
+     * @param executor  消费任务执行器（任务必须异步执行，按分区处理时必须至少有consumers个空闲线程）
+     * @param consumers 消费线程数
+     * @param ordering  处理顺序
+     * @return 读取数量
+     */
+    public static int read(OPCPackage pkg, int index, Reader reader, Executor executor, int consumers, Ordering ordering) {
+        try (Pipeline pipeline = new Pipeline(executor, consumers, reader).ordering(ordering)) {
+            new Excel2007Reader(pkg, index, pipeline).recycle(true).process();
+            return pipeline.getCount();
+        }
+    }
+
+    /**
+     * 通过解析XML的方式流式统计Excel2007数据列，只解析统计列及分组列的单元格
      *
-     * @param row    Excel行
-     * @param titles 标题数组
+     * @param pkg        文件包
+     * @param index      开始数据行下标（从0开始）
+     * @param aggregator Excel数据列流式统计器
+     * @return Excel数据列流式统计器
      */
     @Nonnull
-    public static void setTitles(Row row, String... titles) {
-        if (titles.length > 0) {
-            setValues(row, buildTitleStyle(row.getSheet().getWorkbook()), titles);
-        }
+    public static Aggregator aggregate(OPCPackage pkg, @Min(0) int index, Aggregator aggregator) {
+        new Excel2007Reader(pkg, index, aggregator).columns(aggregator.getColumns()).recycle(true).process();
+        return aggregator;
     }
 
     /**
-     * 统计Excel数据行数
+     * 流式统计CSV文件数据列，CSV字段均为文本，统计器将开启数字文本统计
      *
-     * @param sheet Excel表格
-     * @return 数量
+     * @param file       CSV文件
+     * @param index      开始数据行下标（从0开始）
+     * @param aggregator Excel数据列流式统计器
+     * @return Excel数据列流式统计器
      */
-    public static int count(Sheet sheet) {
-        return count(sheet, 0);
+    @Nonnull
+    public static Aggregator aggregate(File file, @Min(0) int index, Aggregator aggregator) {
+        readCsv(file, index, aggregator.textual(true));
+        return aggregator;
     }
 
     /**
-     * 统计Excel数据行数
+     * 通过解析XML的方式分批读取Excel2007数据，每批数据行均为独立副本
      *
-     * @param workbook Excel工作薄
-     * @return 数量
+     * @param pkg    文件包
+     * @param index  开始数据行下标（从0开始）
+     * @param size   批次大小
+     * @param reader Excel批量读接口
+     * @return 读取数量
      */
-    public static int count(Workbook workbook) {
-        return count(workbook, 0);
+    public static int read(OPCPackage pkg, int index, int size, BatchReader reader) {
+        RowBatcher batcher = new RowBatcher(size, reader);
+        int count = new Excel2007Reader(pkg, index, batcher).recycle(true).process();
+        batcher.flush();
+        return count;
     }
 
     /**
-     * 统计Excel数据行数
+     * 通过解析XML的方式读取Excel2007数据并转换成对象实例，空行将被忽略
      *
-     * @param sheet Excel表格
-     * @param index 开始数据行下标（从0开始）
-     * @return 数量
+     * @param <M>      数据类型
+     * @param pkg      文件包
+     * @param type     对象类型
+     * @param consumer 对象实例消费接口
+     * @return 读取数量
      */
-    @Nonnull
-    public static int count(Sheet sheet, @Min(0) int index) {
-        return sheet.getPhysicalNumberOfRows() - index;
+    public static <M> int read(OPCPackage pkg, Class<M> type, Consumer<M> consumer) {
+        return read(pkg, 0, type, consumer);
     }
 
     /**
-     * 统计Excel数据行数
+     * 通过解析XML的方式读取Excel2007数据并转换成对象实例，空行将被忽略
      *
-     * @param workbook Excel工作薄
+     * @param <M>      数据类型
+     * @param pkg      文件包
      * @param index    开始数据行下标（从0开始）
-     * @return 数量
+     * @param type     对象类型
+     * @param consumer 对象实例消费接口
+     * @return 读取数量
      */
-    @Nonnull
-    public static int count(Workbook workbook, @Min(0) int index) {
-        int count = 0;
-        for (int i = 0, sheets = workbook.getNumberOfSheets(); i < sheets; i++) {
-            count += count(workbook.getSheetAt(i), index);
-        }
-        return count;
+    public static <M> int read(OPCPackage pkg, int index, @Nonnull Class<M> type, @Nonnull Consumer<M> consumer) {
+        Binding<M> binding = Binding.of(type);
+        return new Excel2007Reader(pkg, index, (row, count) -> {
+            if (!isEmpty(row)) {
+                consumer.accept(binding.read(row));
+            }
+        }).recycle(true).process();
     }
 
     /**
-     * 统计Excel数据行数
+     * 构建Excel2007数据行流，数据在流被消费时才解析，使用完成后需关闭流
      *
      * @param pkg 文件包
-     * @return 数量
+     * @return 数据行流
      */
-    public static int count(OPCPackage pkg) {
-        return count(pkg, 0);
+    public static Stream<Row> stream(OPCPackage pkg) {
+        return stream(pkg, 0);
     }
 
     /**
-     * 统计Excel数据行数
+     * 构建Excel2007数据行流，数据在流被消费时才解析，使用完成后需关闭流
      *
      * @param pkg   文件包
      * @param index 开始数据行下标（从0开始）
-     * @return 数量
+     * @return 数据行流
      */
     @Nonnull
-    public static int count(OPCPackage pkg, @Min(0) int index) {
-        return new Excel2007Counter(pkg, index).process();
+    public static Stream<Row> stream(OPCPackage pkg, @Min(0) int index) {
+        return new Excel2007Iterator(pkg, index).stream();
     }
 
     /**
-     * 通过解析XML的方式读取Excel2007数据
+     * 通过并行解析XML的方式读取Excel2007数据，数据行按表格顺序回调
      *
-     * @param pkg    文件包
-     * @param reader Excel读接口
+     * @param pkg      文件包
+     * @param reader   Excel读接口
+     * @param executor 解析任务执行器（任务必须异步执行，同步执行时表格数据行超过队列容量将抛出IllegalStateException异常）
      * @return 读取数量
      */
-    public static int read(OPCPackage pkg, Reader reader) {
-        return read(pkg, 0, reader);
+    public static int read(OPCPackage pkg, Reader reader, Executor executor) {
+        return read(pkg, 0, reader, executor, true);
     }
 
     /**
-     * 通过解析XML的方式读取Excel2007数据
+     * 通过并行解析XML的方式读取Excel2007数据
      *
-     * @param pkg    文件包
-     * @param index  开始数据行下标（从0开始）
-     * @param reader Excel读接口
+     * @param pkg      文件包
+     * @param index    开始数据行下标（从0开始）
+     * @param reader   Excel读接口
+     * @param executor 解析任务执行器（任务必须异步执行，同步执行时表格数据行超过队列容量将抛出IllegalStateException异常）
+     * @param ordered  是否按表格顺序回调
      * @return 读取数量
      */
-    public static int read(OPCPackage pkg, int index, Reader reader) {
-        return new AbstractExcel2007Reader(pkg, index) {
-            @Override
-            public void read(Row row, int count) {
-                reader.read(row, count);
-            }
-        }.process();
+    public static int read(OPCPackage pkg, int index, Reader reader, Executor executor, boolean ordered) {
+        return new Excel2007Reader(pkg, index, reader).parallel(executor, ordered).process();
     }
 
     /**
@@ -1749,8 +7077,8 @@ public abstract class Excels {
      * @param type 对象类型
      * @return 对象实例
      */
-    public static <M> M read(Row row, Class<M> type) {
-        return isEmpty(row) ? null : Objects.initialize(type, getValues(row));
+    public static <M> M read(Row row, @Nonnull Class<M> type) {
+        return isEmpty(row) ? null : Binding.of(type).read(row);
     }
 
     /**
@@ -1822,10 +7150,17 @@ public abstract class Excels {
      */
     @Nonnull
     private static <M> void read(Sheet sheet, Class<M> type, @Min(0) int index, List<M> container) {
-        for (int r = index, rows = sheet.getLastRowNum(); r <= rows; r++) {
-            M object = read(sheet.getRow(r), type);
-            if (object != null) {
-                container.add(object);
+        Evaluator scope = scope(sheet.getWorkbook());
+        try {
+            for (int r = index, rows = sheet.getLastRowNum(); r <= rows; r++) {
+                M object = read(sheet.getRow(r), type);
+                if (object != null) {
+                    container.add(object);
+                }
+            }
+        } finally {
+            if (scope != null) {
+                scope.close();
             }
         }
     }
@@ -1884,6 +7219,38 @@ public abstract class Excels {
         return count[0];
     }
 
+    /**
+     * 分批读Excel
+     *
+     * @param sheet  Excel表格
+     * @param index  开始数据行下标（从0开始）
+     * @param size   批次大小
+     * @param reader Excel批量读接口
+     * @return 读取数量
+     */
+    public static int read(Sheet sheet, int index, int size, BatchReader reader) {
+        RowBatcher batcher = new RowBatcher(size, reader);
+        int count = read(sheet, index, batcher);
+        batcher.flush();
+        return count;
+    }
+
+    /**
+     * 分批读Excel
+     *
+     * @param workbook Excel工作薄
+     * @param index    开始数据行下标（从0开始）
+     * @param size     批次大小
+     * @param reader   Excel批量读接口
+     * @return 读取数量
+     */
+    public static int read(Workbook workbook, int index, int size, BatchReader reader) {
+        RowBatcher batcher = new RowBatcher(size, reader);
+        int count = read(workbook, index, batcher);
+        batcher.flush();
+        return count;
+    }
+
     /**
      * 读Excel
      *
@@ -1893,23 +7260,40 @@ public abstract class Excels {
      * @param reader Excel读接口
      */
     private static void read(Sheet sheet, int index, int[] count, Reader reader) {
-        for (int r = index, rows = sheet.getLastRowNum(); r <= rows; r++) {
-            Row row = sheet.getRow(r);
-            if (!isEmpty(row)) {
-                reader.read(row, ++count[0]);
+        Evaluator scope = scope(sheet.getWorkbook());
+        try {
+            for (int r = index, rows = sheet.getLastRowNum(); r <= rows; r++) {
+                Row row = sheet.getRow(r);
+                if (!isEmpty(row)) {
+                    reader.read(row, ++count[0]);
+                }
+            }
+        } finally {
+            if (scope != null) {
+                scope.close();
             }
         }
     }
 
     /**
-     * 设置对象实例到Excel行
+     * 获取对象类型对应的列标题，字段存在Title注解时为注解标题（按注解顺序），否则为字段名称
+     *
+     * @param type 对象类型
+     * @return 列标题数组
+     */
+    public static String[] getTitles(@Nonnull Class<?> type) {
+        return Binding.of(type).getTitles();
+    }
+
+    /**
+     * 设置对象实例到Excel行，字段存在Title注解时只写入注解字段并按注解顺序排列
      *
      * @param row    Excel行对象
      * @param object 对象实例
      */
     public static void write(@Nonnull Row row, Object object) {
         if (object != null) {
-            Objects.access(object.getClass(), (field, i) -> setValue(row.createCell(i), Objects.getValue(object, field)));
+            Binding.of(object.getClass()).write(row, object);
         }
     }
 
@@ -2011,16 +7395,333 @@ public abstract class Excels {
      */
     @Nonnull
     public static <M> void write(Workbook workbook, List<M> objects, @Min(0) int index, Writer<M> writer) {
-        if (!objects.isEmpty()) {
-            int c = 0, r = index;
-            Sheet sheet = workbook.createSheet();
-            for (M object : objects) {
-                if (r > index && r % DEFAULT_SHEET_VOLUME == 0) {
-                    r = index;
-                    sheet = workbook.createSheet();
+        write(workbook, objects.iterator(), index, DEFAULT_SHEET_VOLUME, writer);
+    }
+
+    /**
+     * 将对象实例逐个写入到Excel中，对象实例在迭代时才获取，配合流式工作薄使用时内存占用与数据量无关
+     *
+     * @param <M>      数据类型
+     * @param workbook Excel工作薄
+     * @param objects  对象实例迭代器
+     * @param writer   Excel对象实例写入接口
+     * @return 写入数量
+     */
+    public static <M> int write(Workbook workbook, Iterator<M> objects, Writer<M> writer) {
+        return write(workbook, objects, 0, DEFAULT_SHEET_VOLUME, writer);
+    }
+
+    /**
+     * 将对象实例逐个写入到Excel中，对象实例在迭代时才获取，配合流式工作薄使用时内存占用与数据量无关
+     *
+     * @param <M>      数据类型
+     * @param workbook Excel工作薄
+     * @param objects  对象实例迭代器
+     * @param index    开始数据行下标（从0开始）
+     * @param volume   每个表格的容量（行数）
+     * @param writer   Excel对象实例写入接口
+     * @return 写入数量
+     */
+    @Nonnull
+    public static <M> int write(Workbook workbook, Iterator<M> objects, @Min(0) int index, @Min(1) int volume, Writer<M> writer) {
+        int c = 0, r = index;
+        Sheet sheet = null;
+        while (objects.hasNext()) {
+            M object = objects.next();
+            if (sheet == null || r - index >= volume) {
+                r = index;
+                sheet = workbook.createSheet();
+            }
+            writer.write(sheet.createRow(r++), object, ++c);
+        }
+        return c;
+    }
+
+    /**
+     * 将对象实例流写入到Excel中，数据流由调用方负责关闭
+     *
+     * @param <M>      数据类型
+     * @param workbook Excel工作薄
+     * @param objects  对象实例流
+     * @param writer   Excel对象实例写入接口
+     * @return 写入数量
+     */
+    public static <M> int write(Workbook workbook, Stream<M> objects, Writer<M> writer) {
+        return write(workbook, objects, 0, DEFAULT_SHEET_VOLUME, writer);
+    }
+
+    /**
+     * 将对象实例流写入到Excel中，数据流由调用方负责关闭
+     *
+     * @param <M>      数据类型
+     * @param workbook Excel工作薄
+     * @param objects  对象实例流
+     * @param index    开始数据行下标（从0开始）
+     * @param volume   每个表格的容量（行数）
+     * @param writer   Excel对象实例写入接口
+     * @return 写入数量
+     */
+    @Nonnull
+    public static <M> int write(Workbook workbook, Stream<M> objects, @Min(0) int index, @Min(1) int volume, Writer<M> writer) {
+        return write(workbook, objects.iterator(), index, volume, writer);
+    }
+
+    /**
+     * 将分页获取的对象实例写入到Excel中，每次只持有一页数据
+     *
+     * @param <M>      数据类型
+     * @param workbook Excel工作薄
+     * @param pager    分页数据获取接口（参数为页码，从1开始），返回空时结束
+     * @param writer   Excel对象实例写入接口
+     * @return 写入数量
+     */
+    public static <M> int write(Workbook workbook, IntFunction<List<M>> pager, Writer<M> writer) {
+        return write(workbook, pager, 0, DEFAULT_SHEET_VOLUME, writer);
+    }
+
+    /**
+     * 将分页获取的对象实例写入到Excel中，每次只持有一页数据
+     *
+     * @param <M>      数据类型
+     * @param workbook Excel工作薄
+     * @param pager    分页数据获取接口（参数为页码，从1开始），返回空时结束
+     * @param index    开始数据行下标（从0开始）
+     * @param volume   每个表格的容量（行数）
+     * @param writer   Excel对象实例写入接口
+     * @return 写入数量
+     */
+    @Nonnull
+    public static <M> int write(Workbook workbook, IntFunction<List<M>> pager, @Min(0) int index, @Min(1) int volume, Writer<M> writer) {
+        return write(workbook, new Iterator<M>() {
+            private int page; // 当前页码
+            private boolean finished; // 是否已获取完成
+            private Iterator<M> objects = Collections.emptyIterator(); // 当前页数据迭代器
+
+            @Override
+            public boolean hasNext() {
+                while (!this.finished && !this.objects.hasNext()) {
+                    List<M> objects = pager.apply(++this.page);
+                    if (objects == null || objects.isEmpty()) {
+                        this.finished = true;
+                    } else {
+                        this.objects = objects.iterator();
+                    }
+                }
+                return !this.finished;
+            }
+
+            @Override
+            public M next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return this.objects.next();
+            }
+        }, index, volume, writer);
+    }
+
+    /**
+     * 将对象实例直接以Excel2007格式写入到输出流，不构建工作薄对象也不使用临时文件，输出流由调用方负责关闭
+     *
+     * @param <M>     数据类型
+     * @param output  数据输出流
+     * @param objects 对象实例迭代器
+     * @param writer  Excel对象实例写入接口
+     * @param titles  表格标题数组
+     * @return 写入数量
+     * @throws IOException IO操作异常
+     */
+    public static <M> int write(OutputStream output, Iterator<M> objects, Writer<M> writer, String... titles) throws IOException {
+        return write(output, objects, DEFAULT_SHEET_VOLUME, writer, titles);
+    }
+
+    /**
+     * 将对象实例直接以Excel2007格式写入到输出流，不构建工作薄对象也不使用临时文件，输出流由调用方负责关闭
+     *
+     * @param <M>     数据类型
+     * @param output  数据输出流
+     * @param objects 对象实例迭代器
+     * @param volume  每个表格的容量（行数，包含标题行）
+     * @param writer  Excel对象实例写入接口
+     * @param titles  表格标题数组
+     * @return 写入数量
+     * @throws IOException IO操作异常
+     */
+    @Nonnull
+    public static <M> int write(OutputStream output, Iterator<M> objects, @Min(1) int volume, Writer<M> writer, String... titles)
+            throws IOException {
+        try (Excel2007Writer excel = new Excel2007Writer(output).titles(titles).volume(volume)) {
+            return excel.write(objects, writer);
+        }
+    }
+
+    /**
+     * 将对象实例并行渲染并以Excel2007格式写入到输出流，每个表格的XML在执行器中独立渲染后按顺序组装，输出流由调用方负责关闭
+     *
+     * @param <M>      数据类型
+     * @param output   数据输出流
+     * @param objects  对象实例列表
+     * @param executor 渲染任务执行器
+     * @param writer   Excel对象实例写入接口（需线程安全）
+     * @param titles   表格标题数组
+     * @return 写入数量
+     * @throws IOException IO操作异常
+     */
+    @Nonnull
+    public static <M> int write(OutputStream output, List<M> objects, Executor executor, Writer<M> writer, String... titles)
+            throws IOException {
+        try (Excel2007Writer excel = new Excel2007Writer(output).titles(titles)) {
+            return excel.write(objects, executor, Runtime.getRuntime().availableProcessors(), writer);
+        }
+    }
+
+    /**
+     * 读取CSV文件数据，文件通过内存映射读取，字符集为UTF-8
+     *
+     * @param file   CSV文件
+     * @param reader Excel读接口
+     * @return 读取数量
+     */
+    public static int readCsv(File file, Reader reader) {
+        return readCsv(file, 0, reader);
+    }
+
+    /**
+     * 读取CSV文件数据，文件通过内存映射读取，字符集为UTF-8
+     *
+     * @param file   CSV文件
+     * @param index  开始数据行下标（从0开始）
+     * @param reader Excel读接口
+     * @return 读取数量
+     */
+    public static int readCsv(File file, int index, Reader reader) {
+        return new CsvReader(file, index, reader).process();
+    }
+
+    /**
+     * 读取CSV数据流，字符集为UTF-8
+     *
+     * @param input  CSV数据输入流
+     * @param index  开始数据行下标（从0开始）
+     * @param reader Excel读接口
+     * @return 读取数量
+     */
+    public static int readCsv(InputStream input, int index, Reader reader) {
+        return new CsvReader(input, index, reader).process();
+    }
+
+    /**
+     * 并发读取文件目录中的Excel文件（xlsx、xls、csv，不包含子目录）
+     *
+     * @param directory   文件目录
+     * @param index       开始数据行下标（从0开始）
+     * @param readers     文件读接口构建函数
+     * @param executor    解析任务执行器（任务必须异步执行）
+     * @param parallelism 并行数
+     * @param budget      共享字符串表内存预算（字节）
+     * @return Excel文件批量并发读取器
+     */
+    @Nonnull
+    public static Ingestion ingest(File directory, int index, Function<File, Reader> readers, Executor executor, int parallelism, long budget) {
+        File[] files = directory.listFiles(file -> {
+            String suffix = file.isFile() ? Files.getSuffix(file.getName()) : null;
+            return "xlsx".equalsIgnoreCase(suffix) || "xls".equalsIgnoreCase(suffix) || "csv".equalsIgnoreCase(suffix);
+        });
+        if (files == null) {
+            throw new IllegalArgumentException("Invalid directory: " + directory);
+        }
+        return new Ingestion(index, readers, executor, parallelism, budget).process(Arrays.asList(files));
+    }
+
+    /**
+     * 并发读取文件查询结果中的Excel文件，文件目录将被忽略
+     *
+     * @param query       文件查询对象
+     * @param index       开始数据行下标（从0开始）
+     * @param readers     文件读接口构建函数
+     * @param executor    解析任务执行器（任务必须异步执行）
+     * @param parallelism 并行数
+     * @param budget      共享字符串表内存预算（字节）
+     * @return Excel文件批量并发读取器
+     */
+    @Nonnull
+    public static Ingestion ingest(Files.Query query, int index, Function<File, Reader> readers, Executor executor, int parallelism, long budget) {
+        List<File> files = new LinkedList<>();
+        for (Files.Describe describe : query) {
+            if (!describe.directory) {
+                files.add(new File(describe.path));
+            }
+        }
+        return new Ingestion(index, readers, executor, parallelism, budget).process(files);
+    }
+
+    /**
+     * 流式转码Excel文件，源文件按后缀名以流式方式读取（xlsx、xls、csv），目标格式支持xlsx及csv，
+     * 每个表格最多写入默认容量的数据行，输出流由调用方负责关闭
+     *
+     * @param source    源文件
+     * @param output    目标输出流
+     * @param type      目标格式
+     * @param heading   是否将源文件第一个数据行作为标题行（写入每个表格的第一行）
+     * @param transform 数据行转换接口（为空时直接拷贝数据行）
+     * @return 写入数量
+     * @throws IOException IO操作异常
+     */
+    @Nonnull
+    public static int transcode(File source, OutputStream output, Type type, boolean heading, Writer<Row> transform) throws IOException {
+        Transcoder transcoder;
+        if (type == Type.XLSX) {
+            transcoder = new Transcoder(new Excel2007Writer(output));
+        } else if (type == Type.CSV) {
+            transcoder = new Transcoder(new CsvWriter(output));
+        } else {
+            throw new IllegalArgumentException("Not support transcoding excel type: " + type);
+        }
+        try (Transcoder closeable = transcoder.heading(heading).transform(transform)) {
+            Type origin = Type.parse(Files.getSuffix(source.getName()));
+            if (origin == Type.XLSX) {
+                OPCPackage pkg;
+                try {
+                    pkg = OPCPackage.open(source, PackageAccess.READ);
+                } catch (InvalidFormatException e) {
+                    throw new IOException(e);
+                }
+                try {
+                    new Excel2007Reader(pkg, closeable).recycle(true).process();
+                } finally {
+                    pkg.revert(); // 只读文件包关闭时会记录警告日志，使用revert释放
+                }
+            } else if (origin == Type.XLS) {
+                try (POIFSFileSystem fs = new POIFSFileSystem(source, true)) {
+                    read(fs, closeable);
                 }
-                writer.write(sheet.createRow(r++), object, ++c);
+            } else if (origin == Type.CSV) {
+                readCsv(source, closeable);
+            } else {
+                throw new IllegalArgumentException("Not support excel type: " + origin);
+            }
+        }
+        return transcoder.getCount();
+    }
+
+    /**
+     * 将对象实例以CSV格式写入到输出流，字符集为UTF-8，输出流由调用方负责关闭
+     *
+     * @param <M>     数据类型
+     * @param output  数据输出流
+     * @param objects 对象实例迭代器
+     * @param writer  Excel对象实例写入接口
+     * @param titles  标题数组
+     * @return 写入数量
+     * @throws IOException IO操作异常
+     */
+    @Nonnull
+    public static <M> int writeCsv(OutputStream output, Iterator<M> objects, Writer<M> writer, String... titles) throws IOException {
+        try (CsvWriter csv = new CsvWriter(output)) {
+            if (titles.length > 0) {
+                csv.writeTitles(titles);
             }
+            return csv.write(objects, writer);
         }
     }
 }